@@ -0,0 +1,63 @@
+// Compares request handling on platform threads with virtual threads (threads.virtual.enabled).
+//
+// Run the backend once with VIRTUAL_THREADS=false and once with VIRTUAL_THREADS=true (Java 21+),
+// then run against each:
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=candidate@example.com -e PASSWORD=secret \
+//          -e RESUME_ID=1 -e JOB_ID=1 backend/loadtest/request-threads.js
+//
+// The account must own RESUME_ID. Each concurrency level runs as its own scenario, one after
+// the other; the summary lists p99 latency and request counts per level (http_req_duration
+// and http_reqs tagged scenario:vus_N). Compare throughput as http_reqs / DURATION.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DURATION = __ENV.DURATION || '60s';
+const LEVELS = (__ENV.LEVELS || '50,200,800').split(',').map(Number);
+const PAUSE_SECONDS = 10;
+
+function seconds(duration) {
+  const value = parseInt(duration, 10);
+  return duration.endsWith('m') ? value * 60 : value;
+}
+
+const scenarios = {};
+const thresholds = {};
+LEVELS.forEach((vus, i) => {
+  const name = `vus_${vus}`;
+  scenarios[name] = {
+    executor: 'constant-vus',
+    vus,
+    duration: DURATION,
+    startTime: `${i * (seconds(DURATION) + PAUSE_SECONDS)}s`,
+    gracefulStop: '10s',
+  };
+  // Thresholds on tagged sub-metrics make k6 report each level separately
+  thresholds[`http_req_duration{scenario:${name}}`] = ['p(99)>=0'];
+  thresholds[`http_reqs{scenario:${name}}`] = ['count>=0'];
+});
+
+export const options = {
+  scenarios,
+  thresholds,
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } });
+  check(res, { 'logged in': (r) => r.status === 200 });
+  return { token: res.json('token') };
+}
+
+// A mix of the blocking paths: a paged read, the caller's resumes and a stored analysis
+export default function (data) {
+  const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+  check(http.get(`${BASE_URL}/api/jobs?size=50`, params), { 'jobs 200': (r) => r.status === 200 });
+  check(http.get(`${BASE_URL}/api/resumes/my-resumes`, params), { 'resumes 200': (r) => r.status === 200 });
+  check(http.post(`${BASE_URL}/api/analysis/analyze?resumeId=${__ENV.RESUME_ID}&jobId=${__ENV.JOB_ID}`,
+    null, params), { 'analysis 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,76 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.model.AnalysisResult;
+import com.ats.resumeanalyzer.model.Job;
+import com.ats.resumeanalyzer.model.Resume;
+import com.ats.resumeanalyzer.service.AnalysisService;
+import com.ats.resumeanalyzer.service.SkillDictionary;
+import com.ats.resumeanalyzer.service.SkillRegistry;
+import com.ats.resumeanalyzer.service.SkillSimilarity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalysisBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int skillsPerList;
+
+    private AnalysisService analysisService;
+    private Resume resume;
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        int vocabulary = skillsPerList * 4;
+        List<String> names = new ArrayList<>(vocabulary);
+        for (int i = 0; i < vocabulary; i++) {
+            names.add("Skill " + i);
+        }
+
+        SkillRegistry registry = new SkillRegistry();
+        BenchmarkFixtures.inject(registry, "skillRepository", BenchmarkFixtures.skillRepository(names));
+        BenchmarkFixtures.inject(registry, "skillDictionary", new SkillDictionary());
+        registry.load();
+
+        analysisService = new AnalysisService(16);
+        BenchmarkFixtures.inject(analysisService, "skillRegistry", registry);
+        BenchmarkFixtures.inject(analysisService, "skillSimilarity", new SkillSimilarity());
+
+        Random random = new Random(BenchmarkFixtures.SEED);
+        resume = new Resume();
+        resume.setId(1L);
+        resume.setExtractedText(BenchmarkFixtures.text(20_000, BenchmarkFixtures.SEED));
+        resume.setSkillIds(sortedSample(random, vocabulary));
+
+        job = new Job();
+        job.setId(1L);
+        job.setTitle("Backend Engineer");
+        job.setMinExperience(3);
+        job.setSkillIds(sortedSample(random, vocabulary));
+    }
+
+    @Benchmark
+    public AnalysisResult analyzeResume() {
+        return analysisService.evaluate(resume, job, false);
+    }
+
+    // Registry ids start at 1, see BenchmarkFixtures.skillRepository
+    private int[] sortedSample(Random random, int vocabulary) {
+        return IntStream.generate(() -> random.nextInt(vocabulary) + 1)
+                .distinct()
+                .limit(skillsPerList)
+                .sorted()
+                .toArray();
+    }
+}
@@ -0,0 +1,176 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.model.Skill;
+import com.ats.resumeanalyzer.repository.SkillRepository;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic inputs for the benchmarks. Every generator takes an explicit seed, so the
+ * same parameters always produce byte-identical text, PDFs and DOCX files.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 20240601L;
+
+    static final List<String> SKILLS = List.of(
+            "Java", "Python", "JavaScript", "React", "Angular", "Node.js", "Spring Boot", "Django",
+            "SQL", "PostgreSQL", "MongoDB", "AWS", "Azure", "Docker", "Kubernetes", "Git",
+            "TypeScript", "REST API", "GraphQL", "Machine Learning", "C++", "C#", ".NET", "Go",
+            "Rust", "Agile", "Scrum", "CI/CD", "Jenkins", "Jira");
+
+    private static final String[] WORDS = {
+            "designed", "implemented", "maintained", "services", "platform", "team", "customers",
+            "scalable", "reliable", "data", "pipeline", "migrated", "legacy", "system", "improved",
+            "latency", "throughput", "mentored", "engineers", "delivered", "features", "across",
+            "multiple", "projects", "using", "with", "and", "the", "for", "in", "on", "to",
+            "Google", "JavaScripting", "gopher", "experience", "years", "responsible", "testing"
+    };
+
+    private static final int LINES_PER_PAGE = 48;
+
+    private BenchmarkFixtures() {
+    }
+
+    static String text(int chars, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(chars + 100);
+        while (text.length() < chars) {
+            text.append(line(random)).append('\n');
+        }
+        return text.toString();
+    }
+
+    static List<String> lines(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(line(random));
+        }
+        return lines;
+    }
+
+    // Roughly 80 characters of filler words with a skill name every dozen words or so
+    private static String line(Random random) {
+        StringBuilder line = new StringBuilder(96);
+        while (line.length() < 80) {
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(random.nextInt(12) == 0
+                    ? SKILLS.get(random.nextInt(SKILLS.size()))
+                    : WORDS[random.nextInt(WORDS.length)]);
+        }
+        return line.toString();
+    }
+
+    /**
+     * The real skill names followed by synthetic ones, up to {@code size} entries.
+     */
+    static Map<String, String> dictionary(int size) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String skill : SKILLS) {
+            if (terms.size() == size) {
+                break;
+            }
+            terms.put(skill, skill);
+        }
+        Random random = new Random(SEED);
+        while (terms.size() < size) {
+            String skill = WORDS[random.nextInt(WORDS.length)] + "-" + Integer.toString(terms.size(), 36);
+            terms.put(skill, skill);
+        }
+        return terms;
+    }
+
+    static Path pdf(Path dir, int pages) throws IOException {
+        Path file = dir.resolve("resume-" + pages + "p.pdf");
+        List<String> lines = lines(pages * LINES_PER_PAGE, SEED + pages);
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (int p = 0; p < pages; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 740);
+                    for (String line : lines.subList(p * LINES_PER_PAGE, (p + 1) * LINES_PER_PAGE)) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file.toFile());
+        }
+        return file;
+    }
+
+    static Path docx(Path dir, int pages) throws IOException {
+        Path file = dir.resolve("resume-" + pages + "p.docx");
+        try (XWPFDocument document = new XWPFDocument();
+             OutputStream out = Files.newOutputStream(file)) {
+            for (String line : lines(pages * LINES_PER_PAGE, SEED + pages)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+        }
+        return file;
+    }
+
+    /**
+     * Read-only SkillRepository answering {@code findAll} from a fixed list; anything else fails.
+     */
+    static SkillRepository skillRepository(List<String> names) {
+        List<Skill> skills = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            skills.add(new Skill((long) i + 1, names.get(i).toLowerCase(), names.get(i)));
+        }
+        return (SkillRepository) Proxy.newProxyInstance(
+                SkillRepository.class.getClassLoader(),
+                new Class<?>[] {SkillRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && (args == null || args.length == 0)) {
+                        return skills;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Sets a (normally injected) private field, walking up the class hierarchy.
+     */
+    static void inject(Object target, String fieldName, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // keep looking in the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("No field " + fieldName + " on " + target.getClass());
+    }
+}
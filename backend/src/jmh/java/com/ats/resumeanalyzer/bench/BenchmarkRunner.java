@@ -0,0 +1,27 @@
+package com.ats.resumeanalyzer.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the hot-path benchmarks with the GC profiler attached, so every result carries
+ * its allocation rate ({@code gc.alloc.rate.norm}) next to the throughput.
+ *
+ * Pass a regex as the first argument to select benchmarks, e.g. {@code Parser|SkillExtraction}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "com\\.ats\\.resumeanalyzer\\.bench\\..*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
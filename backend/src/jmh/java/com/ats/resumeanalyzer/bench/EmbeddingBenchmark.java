@@ -0,0 +1,58 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.util.EmbeddingMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbour search over a memory-mapped skill embedding matrix: one row against every other.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmbeddingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int skills;
+
+    @Param({"128", "384"})
+    public int dimensions;
+
+    private Path file;
+    private EmbeddingMatrix matrix;
+    private int row;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        ByteBuffer buffer = ByteBuffer.allocate(skills * dimensions * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < skills * dimensions; i++) {
+            buffer.putFloat((float) random.nextGaussian());
+        }
+        file = Files.createTempFile("embeddings", ".f32");
+        Files.write(file, buffer.array());
+        matrix = EmbeddingMatrix.map(file, skills);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        matrix = null;
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<EmbeddingMatrix.Similar> similarTo() {
+        row = (row + 1) % skills;
+        return matrix.similarTo(row, 0.8f);
+    }
+}
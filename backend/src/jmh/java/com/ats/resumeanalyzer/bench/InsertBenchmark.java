@@ -0,0 +1,127 @@
+package com.ats.resumeanalyzer.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resume insert throughput against a local Postgres, comparing the old write path (one
+ * IDENTITY insert per row, each returning its id) with the new one (ids from a pooled
+ * sequence, rows sent as one rewritten JDBC batch). Each invocation writes one batch of rows.
+ *
+ * Needs a scratch database, e.g.
+ * {@code createdb ats_bench} and {@code -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/ats_bench}
+ * (also {@code bench.jdbc.user} / {@code bench.jdbc.password}). The tables are dropped on teardown.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"50", "500"})
+    public int rows;
+
+    private Connection identityConnection;
+    private Connection batchConnection;
+    private String text;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/ats_bench");
+        String user = System.getProperty("bench.jdbc.user", "postgres");
+        String password = System.getProperty("bench.jdbc.password", "postgres");
+        identityConnection = DriverManager.getConnection(url, user, password);
+        batchConnection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                user, password);
+        text = BenchmarkFixtures.text(20_000, BenchmarkFixtures.SEED);
+
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("drop table if exists bench_resumes_identity, bench_resumes_sequence");
+            statement.execute("drop sequence if exists bench_resumes_seq");
+            statement.execute("create table bench_resumes_identity (id bigint generated by default as identity primary key, "
+                    + "file_name varchar(255), extracted_text text, skills text, uploaded_at timestamp, user_id bigint)");
+            statement.execute("create table bench_resumes_sequence (id bigint primary key, "
+                    + "file_name varchar(255), extracted_text text, skills text, uploaded_at timestamp, user_id bigint)");
+            statement.execute("create sequence bench_resumes_seq increment by " + ALLOCATION_SIZE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("drop table if exists bench_resumes_identity, bench_resumes_sequence");
+            statement.execute("drop sequence if exists bench_resumes_seq");
+        }
+        identityConnection.close();
+        batchConnection.close();
+    }
+
+    // What Hibernate does with GenerationType.IDENTITY: a round trip per row to learn its id
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long last = 0;
+        try (PreparedStatement insert = identityConnection.prepareStatement(
+                "insert into bench_resumes_identity (file_name, extracted_text, skills, uploaded_at, user_id) "
+                        + "values (?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    last = keys.getLong(1);
+                }
+            }
+        }
+        return last;
+    }
+
+    // Pooled sequence (one nextval per 50 ids) plus hibernate.jdbc.batch_size-style batching
+    @Benchmark
+    public long sequenceBatched() throws SQLException {
+        long next = 0;
+        long blockEnd = 0;
+        try (PreparedStatement nextval = batchConnection.prepareStatement("select nextval('bench_resumes_seq')");
+             PreparedStatement insert = batchConnection.prepareStatement(
+                     "insert into bench_resumes_sequence (id, file_name, extracted_text, skills, uploaded_at, user_id) "
+                             + "values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (next == blockEnd) {
+                    try (ResultSet rs = nextval.executeQuery()) {
+                        rs.next();
+                        blockEnd = rs.getLong(1);
+                        next = blockEnd - ALLOCATION_SIZE;
+                    }
+                }
+                insert.setLong(1, ++next);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return next;
+    }
+
+    private void bind(PreparedStatement insert, int from, int i) throws SQLException {
+        insert.setString(from, "resume-" + i + ".pdf");
+        insert.setString(from + 1, text);
+        insert.setString(from + 2, "[\"Java\",\"Spring Boot\",\"PostgreSQL\"]");
+        insert.setTimestamp(from + 3, Timestamp.valueOf(LocalDateTime.now()));
+        insert.setLong(from + 4, 1L);
+    }
+}
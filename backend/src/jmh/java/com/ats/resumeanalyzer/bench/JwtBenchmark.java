@@ -0,0 +1,38 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkFixtures.inject(jwtUtil, "secret", "benchmark-secret-benchmark-secret-0123456789");
+        BenchmarkFixtures.inject(jwtUtil, "expiration", 86_400_000L);
+        jwtUtil.init();
+        token = jwtUtil.generateToken("candidate@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("candidate@example.com");
+    }
+
+    // Served from the verified-claims cache after the first call
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+}
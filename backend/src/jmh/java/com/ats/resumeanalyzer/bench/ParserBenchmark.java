@@ -0,0 +1,67 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.service.DocxTextExtractor;
+import com.ats.resumeanalyzer.service.ExtractedText;
+import com.ats.resumeanalyzer.service.PdfTextExtractor;
+import com.ats.resumeanalyzer.service.ResumeParserService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({"pdf", "docx"})
+    public String format;
+
+    @Param({"1", "10", "50"})
+    public int pages;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private Path dir;
+    private Path file;
+    private ResumeParserService parser;
+    private ThreadPoolExecutor executor;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("parser-bench");
+        file = format.equals("pdf") ? BenchmarkFixtures.pdf(dir, pages) : BenchmarkFixtures.docx(dir, pages);
+        parser = new ResumeParserService(16, 60, 500, 2_000_000, 64, 30, 0);
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+        PdfTextExtractor pdfTextExtractor = new PdfTextExtractor(parallel ? 2 : Integer.MAX_VALUE, 8, 256);
+        BenchmarkFixtures.inject(pdfTextExtractor, "pdfExtractionExecutor", executor);
+        BenchmarkFixtures.inject(parser, "extractors", List.of(pdfTextExtractor, new DocxTextExtractor()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ExtractedText extractText() throws Exception {
+        return parser.extractText(file, file.getFileName().toString());
+    }
+}
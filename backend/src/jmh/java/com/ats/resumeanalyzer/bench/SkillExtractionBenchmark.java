@@ -0,0 +1,40 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.service.ResumeParserService;
+import com.ats.resumeanalyzer.service.SkillDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillExtractionBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    public int textLength;
+
+    @Param({"45", "1000", "20000"})
+    public int dictionarySize;
+
+    private String text;
+    private ResumeParserService parser;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkFixtures.text(textLength, BenchmarkFixtures.SEED);
+
+        SkillDictionary dictionary = new SkillDictionary();
+        dictionary.replaceTerms(BenchmarkFixtures.dictionary(dictionarySize));
+        parser = new ResumeParserService(16, 60, 500, 2_000_000, 64, 30, 0);
+        BenchmarkFixtures.inject(parser, "skillDictionary", dictionary);
+    }
+
+    @Benchmark
+    public String extractSkills() {
+        return parser.extractSkills(text);
+    }
+}
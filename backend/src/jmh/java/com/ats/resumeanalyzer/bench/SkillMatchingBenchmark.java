@@ -0,0 +1,95 @@
+package com.ats.resumeanalyzer.bench;
+
+import com.ats.resumeanalyzer.util.IntPostings;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Skill matching as it was (decode both JSON columns, then nested equalsIgnoreCase loops)
+ * against the merge over pre-interned sorted skill-id arrays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillMatchingBenchmark {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    @Param({"10", "50", "200"})
+    public int skillsPerList;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String resumeSkillsJson;
+    private String jobSkillsJson;
+    private int[] resumeSkillIds;
+    private int[] jobSkillIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        int vocabulary = skillsPerList * 4;
+        TreeSet<Integer> resumeIds = new TreeSet<>();
+        TreeSet<Integer> jobIds = new TreeSet<>();
+        while (resumeIds.size() < skillsPerList) {
+            resumeIds.add(random.nextInt(vocabulary));
+        }
+        while (jobIds.size() < skillsPerList) {
+            jobIds.add(random.nextInt(vocabulary));
+        }
+        resumeSkillIds = resumeIds.stream().mapToInt(Integer::intValue).toArray();
+        jobSkillIds = jobIds.stream().mapToInt(Integer::intValue).toArray();
+        resumeSkillsJson = objectMapper.writeValueAsString(names(resumeIds));
+        jobSkillsJson = objectMapper.writeValueAsString(names(jobIds));
+    }
+
+    @Benchmark
+    public void jsonNestedLoops(Blackhole bh) throws Exception {
+        List<String> resumeSkills = objectMapper.readValue(resumeSkillsJson, STRING_LIST);
+        List<String> jobSkills = objectMapper.readValue(jobSkillsJson, STRING_LIST);
+
+        long matchedCount = resumeSkills.stream()
+                .mapToLong(skill -> jobSkills.stream().anyMatch(jobSkill -> jobSkill.equalsIgnoreCase(skill)) ? 1 : 0)
+                .sum();
+        List<String> matched = resumeSkills.stream()
+                .filter(skill -> jobSkills.stream().anyMatch(jobSkill -> jobSkill.equalsIgnoreCase(skill)))
+                .collect(Collectors.toList());
+        List<String> missing = jobSkills.stream()
+                .filter(jobSkill -> resumeSkills.stream().noneMatch(skill -> skill.equalsIgnoreCase(jobSkill)))
+                .collect(Collectors.toList());
+
+        bh.consume((double) matchedCount / jobSkills.size());
+        bh.consume(matched);
+        bh.consume(missing);
+    }
+
+    @Benchmark
+    public void sortedIdMerge(Blackhole bh) {
+        int[] matched = IntPostings.intersect(resumeSkillIds, jobSkillIds);
+        int[] missing = IntPostings.difference(jobSkillIds, matched);
+
+        bh.consume((double) matched.length / jobSkillIds.length);
+        bh.consume(matched);
+        bh.consume(missing);
+    }
+
+    private static List<String> names(TreeSet<Integer> ids) {
+        List<String> names = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            names.add("Skill " + id);
+        }
+        return names;
+    }
+}
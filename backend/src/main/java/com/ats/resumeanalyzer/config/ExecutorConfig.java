@@ -0,0 +1,113 @@
+package com.ats.resumeanalyzer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${ingestion.workers:0}")
+    private int ingestionWorkers;
+
+    @Value("${ingestion.queue-capacity:200}")
+    private int ingestionQueueCapacity;
+
+    @Value("${rescoring.queue-capacity:100}")
+    private int rescoringQueueCapacity;
+
+    @Value("${threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Parses uploaded resumes off the request threads. The queue is bounded and rejects
+     * when full, so a burst of uploads turns into 503s instead of unbounded heap growth.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor ingestionExecutor() {
+        int workers = ingestionWorkers > 0 ? ingestionWorkers : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                workers, workers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(ingestionQueueCapacity),
+                blockingThreads("ingestion-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Parses bulk imports on every core. When the queue is full the reading thread parses
+     * the file itself, which throttles reading to the speed of parsing.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor bulkImportExecutor() {
+        int workers = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                workers, workers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 2),
+                blockingThreads("bulk-import-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Applies stored-score deltas after job edits. One worker keeps the edits of a job in
+     * order; when the queue is full the stale scores are simply recomputed on next read.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor rescoringExecutor() {
+        return new ThreadPoolExecutor(
+                1, 1,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(rescoringQueueCapacity),
+                blockingThreads("rescoring-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Strips page ranges of long PDFs in parallel. Callers wait on these tasks, so when the
+     * queue is full the caller strips the range itself rather than waiting on a full pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor pdfExtractionExecutor() {
+        int workers = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                workers, workers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 4),
+                namedThreads("pdf-extraction-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * CPU-bound scoring for batch ranking, kept off the common pool so a large ranking
+     * request cannot starve other parallel streams in the JVM.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool scoringPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Threads for work that mostly waits on the database or disk. In virtual-thread mode
+     * they are virtual; the pool sizes and queues above still bound how many run at once.
+     */
+    private ThreadFactory blockingThreads(String prefix) {
+        return virtualThreads ? VirtualThreads.namedFactory(prefix) : namedThreads(prefix);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.ats.resumeanalyzer.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adds the full-text search column that Hibernate's schema update cannot express: a stored
+ * generated tsvector over the extracted text, so Postgres maintains it on every insert and
+ * update, plus a GIN index over it. Both statements are no-ops once applied.
+ *
+ * Only the first {@link #INDEXED_CHARS} characters are indexed: a tsvector is capped at
+ * 1 MB, and one over a full 2M-character extraction could exceed it and fail the insert.
+ *
+ * Adding the column to an existing table rewrites it once; on a large table run the
+ * statements by hand in a maintenance window instead. A column created before the cap is
+ * dropped and added again.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SearchSchemaInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchSchemaInitializer.class);
+
+    public static final int INDEXED_CHARS = 100_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createSearchColumn() {
+        try {
+            List<String> expressions = jdbcTemplate.queryForList("select generation_expression "
+                    + "from information_schema.columns where table_name = 'resumes' and column_name = 'search_vector'",
+                    String.class);
+            if (!expressions.isEmpty() && (expressions.get(0) == null || !expressions.get(0).contains("substr"))) {
+                log.info("Recreating the full-text search column over the first {} characters", INDEXED_CHARS);
+                jdbcTemplate.execute("alter table resumes drop column search_vector");
+            }
+            jdbcTemplate.execute("alter table resumes add column if not exists search_vector tsvector "
+                    + "generated always as (to_tsvector('english', "
+                    + "substr(coalesce(extracted_text, ''), 1, " + INDEXED_CHARS + "))) stored");
+            jdbcTemplate.execute("create index if not exists idx_resumes_search_vector "
+                    + "on resumes using gin (search_vector)");
+        } catch (Exception e) {
+            log.warn("Full-text search column could not be created; resume search will fail", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ats.resumeanalyzer.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rows written before the move to pooled sequences got their ids from IDENTITY columns.
+ * Before the web server accepts requests, each sequence is moved past the highest id in its
+ * table. A sequence is never moved backwards, so restarting one node while others keep
+ * inserting is safe.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SequenceAligner {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceAligner.class);
+
+    // Sequence -> table; the increment must match allocationSize on the entity
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "resumes_seq", "resumes",
+            "jobs_seq", "jobs",
+            "analyses_seq", "analyses");
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((sequence, table) -> {
+            try {
+                Long value = jdbcTemplate.queryForObject(
+                        "select setval('" + sequence + "', greatest("
+                                + "(select coalesce(max(id), 0) from " + table + ") + " + ALLOCATION_SIZE + ", "
+                                + "(select last_value from " + sequence + ")))",
+                        Long.class);
+                log.debug("Sequence {} aligned to {}", sequence, value);
+            } catch (Exception e) {
+                log.warn("Could not align sequence {} with table {}", sequence, table, e);
+            }
+        });
+    }
+}
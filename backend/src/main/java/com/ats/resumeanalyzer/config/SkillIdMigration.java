@@ -0,0 +1,91 @@
+package com.ats.resumeanalyzer.config;
+
+import com.ats.resumeanalyzer.model.SkillIdsConverter;
+import com.ats.resumeanalyzer.service.SkillRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows interned before a name was listed as a synonym still carry the synonym's own skill
+ * id, so "Postgres" on an old resume would not match "PostgreSQL" on a new job. Before the
+ * web server accepts requests, those ids are rewritten to the canonical skill's id and the
+ * synonym skills are dropped; once done, later starts find nothing to remap.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SkillIdMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillIdMigration.class);
+
+    private static final List<String> TABLES = List.of("jobs", "resumes");
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SkillRegistry skillRegistry;
+
+    private final SkillIdsConverter converter = new SkillIdsConverter();
+
+    @PostConstruct
+    public void migrate() {
+        Map<Integer, Integer> canonicalIds = skillRegistry.synonymIds();
+        if (canonicalIds.isEmpty()) {
+            return;
+        }
+        try {
+            boolean complete = true;
+            for (String table : TABLES) {
+                complete &= remap(table, canonicalIds);
+            }
+            if (complete) {
+                skillRegistry.forget(canonicalIds.keySet());
+            }
+        } catch (Exception e) {
+            log.warn("Could not remap synonym skill ids; synonyms stay unmatched on older rows", e);
+        }
+    }
+
+    /**
+     * Whether every row was rewritten; one changed since it was read is left for the next start.
+     */
+    private boolean remap(String table, Map<Integer, Integer> canonicalIds) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query("select id, version, skill_ids from " + table + " where skill_ids is not null", rs -> {
+            int[] skillIds = converter.convertToEntityAttribute(rs.getBytes("skill_ids"));
+            int[] remapped = remap(skillIds, canonicalIds);
+            if (!Arrays.equals(skillIds, remapped)) {
+                updates.add(new Object[]{converter.convertToDatabaseColumn(remapped), rs.getLong("id"), rs.getLong("version")});
+            }
+        });
+        // Bumping the version makes other nodes drop job profiles built from the old ids
+        int updated = 0;
+        for (int from = 0; from < updates.size(); from += BATCH_SIZE) {
+            int[] counts = jdbcTemplate.batchUpdate(
+                    "update " + table + " set skill_ids = ?, version = version + 1 where id = ? and version = ?",
+                    updates.subList(from, Math.min(from + BATCH_SIZE, updates.size())));
+            updated += Arrays.stream(counts).filter(count -> count > 0).count();
+        }
+        log.info("Remapped synonym skill ids on {} of {} {} rows", updated, updates.size(), table);
+        return updated == updates.size();
+    }
+
+    private static int[] remap(int[] skillIds, Map<Integer, Integer> canonicalIds) {
+        int[] remapped = new int[skillIds.length];
+        for (int i = 0; i < skillIds.length; i++) {
+            remapped[i] = canonicalIds.getOrDefault(skillIds[i], skillIds[i]);
+        }
+        return Arrays.stream(remapped).sorted().distinct().toArray();
+    }
+}
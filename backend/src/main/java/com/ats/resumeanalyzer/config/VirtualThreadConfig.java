@@ -0,0 +1,21 @@
+package com.ats.resumeanalyzer.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves every request on its own virtual thread, so blocking JPA calls and file I/O
+ * park the request instead of holding one of Tomcat's platform threads. Concurrency is
+ * then bounded by the connection pool and the extraction permits, not the thread count.
+ */
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newPerTaskExecutor());
+    }
+}
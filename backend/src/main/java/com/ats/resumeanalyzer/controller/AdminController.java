@@ -0,0 +1,80 @@
+package com.ats.resumeanalyzer.controller;
+
+import com.ats.resumeanalyzer.dto.BulkImportReport;
+import com.ats.resumeanalyzer.security.UserPrincipal;
+import com.ats.resumeanalyzer.service.Bm25Index;
+import com.ats.resumeanalyzer.service.BulkImportService;
+import com.ats.resumeanalyzer.service.ResumeParserService;
+import com.ats.resumeanalyzer.service.ResumeStorageService;
+import com.ats.resumeanalyzer.service.SkillIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "http://localhost:3000")
+public class AdminController {
+    
+    @Autowired
+    private ResumeParserService resumeParserService;
+    
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+    
+    @Autowired
+    private SkillIndex skillIndex;
+    
+    @Autowired
+    private BulkImportService bulkImportService;
+    
+    @Autowired
+    private Bm25Index bm25Index;
+    
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> storage = new LinkedHashMap<>();
+        storage.put("storedBlobs", resumeStorageService.getStoredBlobs());
+        storage.put("deduplicatedBlobs", resumeStorageService.getDeduplicatedBlobs());
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("parseCache", resumeParserService.getParseCacheStats());
+        stats.put("extraction", resumeParserService.getExtractionStats());
+        stats.put("storage", storage);
+        stats.put("skillIndexResumes", skillIndex.size());
+        stats.put("relevanceIndexResumes", bm25Index.size());
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * Imports every PDF/DOCX under a directory on the server, owned by the calling admin.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importDirectory(@RequestParam String directory, Authentication authentication) {
+        try {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            
+            if (!principal.getRole().name().equals("ADMIN")) {
+                return ResponseEntity.status(403).build();
+            }
+            
+            Path path = Paths.get(directory);
+            if (!Files.isDirectory(path)) {
+                return ResponseEntity.badRequest().body("Not a directory: " + directory);
+            }
+            
+            BulkImportReport report = bulkImportService.importDirectory(principal.getId(), path);
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("Error importing resumes: " + e.getMessage());
+        }
+    }
+}
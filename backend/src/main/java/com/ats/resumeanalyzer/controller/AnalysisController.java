@@ -1,60 +1,157 @@
 package com.ats.resumeanalyzer.controller;
 
+import com.ats.resumeanalyzer.dto.RankRequest;
+import com.ats.resumeanalyzer.dto.RankedResume;
+import com.ats.resumeanalyzer.dto.RelevanceHit;
+import com.ats.resumeanalyzer.dto.RankingResponse;
 import com.ats.resumeanalyzer.model.AnalysisResult;
 import com.ats.resumeanalyzer.model.Job;
 import com.ats.resumeanalyzer.model.Resume;
-import com.ats.resumeanalyzer.model.User;
 import com.ats.resumeanalyzer.repository.JobRepository;
 import com.ats.resumeanalyzer.repository.ResumeRepository;
-import com.ats.resumeanalyzer.repository.UserRepository;
+import com.ats.resumeanalyzer.security.UserPrincipal;
 import com.ats.resumeanalyzer.service.AnalysisService;
+import com.ats.resumeanalyzer.service.Bm25Index;
+import com.ats.resumeanalyzer.service.ResumeRankingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/analysis")
 @CrossOrigin(origins = "http://localhost:3000")
 public class AnalysisController {
     
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_RANK_DEPTH = 10_000; // every position up to the page is held while ranking
+    
     @Autowired
     private AnalysisService analysisService;
     
     @Autowired
-    private ResumeRepository resumeRepository;
+    private ResumeRankingService resumeRankingService;
     
     @Autowired
-    private JobRepository jobRepository;
+    private Bm25Index bm25Index;
+    
+    @Autowired
+    private ResumeRepository resumeRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private JobRepository jobRepository;
     
     @PostMapping("/analyze")
     public ResponseEntity<AnalysisResult> analyzeResume(
             @RequestParam Long resumeId,
             @RequestParam Long jobId,
+            @RequestParam(defaultValue = "false") boolean includeText,
             Authentication authentication) {
         try {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
             
             Resume resume = resumeRepository.findById(resumeId)
                     .orElseThrow(() -> new RuntimeException("Resume not found"));
             
-            if (!resume.getUser().getId().equals(user.getId())) {
+            if (!resume.getUser().getId().equals(principal.getId())) {
                 return ResponseEntity.status(403).build();
             }
             
             Job job = jobRepository.findById(jobId)
                     .orElseThrow(() -> new RuntimeException("Job not found"));
             
-            AnalysisResult result = analysisService.analyzeResume(resume, job);
+            AnalysisResult result = analysisService.analyzeResume(resume, job, includeText);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
+    
+    @PostMapping("/jobs/{jobId}/rank")
+    public ResponseEntity<RankingResponse> rankResumes(
+            @PathVariable Long jobId,
+            @RequestBody(required = false) RankRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        try {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            
+            if (!principal.getRole().name().equals("RECRUITER") && !principal.getRole().name().equals("ADMIN")) {
+                return ResponseEntity.status(403).build();
+            }
+            
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE || ((long) page + 1) * size > MAX_RANK_DEPTH) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            
+            List<Long> resumeIds = request != null ? request.getResumeIds() : null;
+            return ResponseEntity.ok(resumeRankingService.rank(job, resumeIds, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Resumes ranked by BM25 relevance of their extracted text to the job's title,
+     * description and required skills.
+     */
+    @GetMapping("/jobs/{jobId}/relevance")
+    public ResponseEntity<List<RelevanceHit>> rankByRelevance(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        try {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            
+            if (!principal.getRole().name().equals("RECRUITER") && !principal.getRole().name().equals("ADMIN")) {
+                return ResponseEntity.status(403).build();
+            }
+            
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            
+            String query = job.getTitle() + "\n" + job.getDescription() + "\n" + job.getRequiredSkills();
+            return ResponseEntity.ok(bm25Index.rank(query, null, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Highest stored scores for the job; only analyses of the current resume and job versions count.
+     */
+    @GetMapping("/jobs/{jobId}/top")
+    public ResponseEntity<List<RankedResume>> topApplicants(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        try {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            
+            if (!principal.getRole().name().equals("RECRUITER") && !principal.getRole().name().equals("ADMIN")) {
+                return ResponseEntity.status(403).build();
+            }
+            
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            
+            return ResponseEntity.ok(analysisService.topApplicants(job, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
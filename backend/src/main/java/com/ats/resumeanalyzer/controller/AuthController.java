@@ -5,6 +5,7 @@ import com.ats.resumeanalyzer.dto.LoginRequest;
 import com.ats.resumeanalyzer.dto.RegisterRequest;
 import com.ats.resumeanalyzer.model.User;
 import com.ats.resumeanalyzer.repository.UserRepository;
+import com.ats.resumeanalyzer.security.UserPrincipal;
 import com.ats.resumeanalyzer.util.JwtUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -75,20 +75,18 @@ public class AuthController {
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
         
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
         
-        String jwt = jwtUtil.generateToken(user.getEmail());
+        String jwt = jwtUtil.generateToken(principal.getEmail());
         
         return ResponseEntity.ok(new JwtResponse(
                 jwt,
                 "Bearer",
-                user.getId(),
-                user.getEmail(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getRole().name()
+                principal.getId(),
+                principal.getEmail(),
+                principal.getFirstName(),
+                principal.getLastName(),
+                principal.getRole().name()
         ));
     }
 }
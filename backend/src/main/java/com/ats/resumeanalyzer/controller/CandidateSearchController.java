@@ -0,0 +1,75 @@
+package com.ats.resumeanalyzer.controller;
+
+import com.ats.resumeanalyzer.dto.CandidateMatch;
+import com.ats.resumeanalyzer.security.UserPrincipal;
+import com.ats.resumeanalyzer.service.SkillIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/candidates")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CandidateSearchController {
+    
+    private static final int MAX_LIMIT = 1000;
+    
+    @Autowired
+    private SkillIndex skillIndex;
+    
+    /**
+     * Boolean skill query, e.g. {@code ?all=java,spring boot&any=aws,azure&none=php}.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> search(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(defaultValue = "100") int limit,
+            Authentication authentication) {
+        if (!isRecruiter(authentication)) {
+            return ResponseEntity.status(403).build();
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        int[] resumeIds = skillIndex.search(all, any, none);
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("total", resumeIds.length);
+        response.put("resumeIds", Arrays.stream(resumeIds, 0, Math.min(limit, resumeIds.length))
+                .asLongStream().boxed().toList());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Resumes having at least {@code min} of the given skills, ranked by how many they have.
+     */
+    @GetMapping("/match")
+    public ResponseEntity<List<CandidateMatch>> match(
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "1") int min,
+            @RequestParam(defaultValue = "100") int limit,
+            Authentication authentication) {
+        if (!isRecruiter(authentication)) {
+            return ResponseEntity.status(403).build();
+        }
+        if (min < 1 || limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ResponseEntity.ok(skillIndex.matchAtLeast(skills, min, limit));
+    }
+    
+    private boolean isRecruiter(Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getRole().name().equals("RECRUITER") || principal.getRole().name().equals("ADMIN");
+    }
+}
@@ -2,15 +2,20 @@ package com.ats.resumeanalyzer.controller;
 
 import com.ats.resumeanalyzer.dto.JobRequest;
 import com.ats.resumeanalyzer.model.Job;
-import com.ats.resumeanalyzer.model.User;
 import com.ats.resumeanalyzer.repository.JobRepository;
 import com.ats.resumeanalyzer.repository.UserRepository;
+import com.ats.resumeanalyzer.security.UserPrincipal;
+import com.ats.resumeanalyzer.service.AnalysisService;
+import com.ats.resumeanalyzer.service.JobFeedPage;
+import com.ats.resumeanalyzer.service.JobFeedService;
+import com.ats.resumeanalyzer.service.JobRescoringService;
+import com.ats.resumeanalyzer.service.SkillRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -21,18 +26,58 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:3000")
 public class JobController {
     
+    private static final int MAX_PAGE_SIZE = 200;
+    
     @Autowired
     private JobRepository jobRepository;
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private SkillRegistry skillRegistry;
+    
+    @Autowired
+    private JobFeedService jobFeedService;
+    
+    @Autowired
+    private AnalysisService analysisService;
+    
+    @Autowired
+    private JobRescoringService jobRescoringService;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
     
+    /**
+     * Newest jobs first. The cursor for the next page, if any, comes back in X-Next-Cursor.
+     */
     @GetMapping
-    public ResponseEntity<List<Job>> getAllActiveJobs() {
-        List<Job> jobs = jobRepository.findByIsActiveTrue();
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<List<Job>> getAllActiveJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // Taken before the read so a concurrent write can only make the tag stale, never the body
+        String etag = jobFeedService.etag(cursor, size);
+        long lastModified = jobFeedService.getLastModified();
+        
+        JobFeedPage page;
+        try {
+            page = jobFeedService.page(cursor, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache().cachePublic());
+        if (page.nextCursor() != null) {
+            response.header("X-Next-Cursor", page.nextCursor());
+        }
+        return response.body(page.jobs());
     }
     
     @GetMapping("/{id}")
@@ -47,11 +92,9 @@ public class JobController {
             @Valid @RequestBody JobRequest request,
             Authentication authentication) {
         try {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
             
-            if (!user.getRole().name().equals("RECRUITER") && !user.getRole().name().equals("ADMIN")) {
+            if (!principal.getRole().name().equals("RECRUITER") && !principal.getRole().name().equals("ADMIN")) {
                 return ResponseEntity.status(403).build();
             }
             
@@ -59,6 +102,7 @@ public class JobController {
             job.setTitle(request.getTitle());
             job.setDescription(request.getDescription());
             job.setRequiredSkills(objectMapper.writeValueAsString(request.getRequiredSkills()));
+            job.setSkillIds(skillRegistry.intern(request.getRequiredSkills()));
             job.setCompany(request.getCompany());
             job.setLocation(request.getLocation());
             job.setMinExperience(request.getMinExperience());
@@ -66,10 +110,11 @@ public class JobController {
                 job.setQualifications(objectMapper.writeValueAsString(request.getQualifications()));
             }
             job.setPostedAt(LocalDateTime.now());
-            job.setPostedBy(user);
+            job.setPostedBy(userRepository.getReferenceById(principal.getId()));
             job.setIsActive(true);
             
             jobRepository.save(job);
+            jobFeedService.invalidate();
             return ResponseEntity.ok(job);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -82,21 +127,23 @@ public class JobController {
             @Valid @RequestBody JobRequest request,
             Authentication authentication) {
         try {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
             
             Job job = jobRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Job not found"));
             
-            if (!user.getRole().name().equals("ADMIN") && 
-                !job.getPostedBy().getId().equals(user.getId())) {
+            if (!principal.getRole().name().equals("ADMIN") && 
+                !job.getPostedBy().getId().equals(principal.getId())) {
                 return ResponseEntity.status(403).build();
             }
             
+            int[] oldSkillIds = job.getSkillIds();
+            Long oldVersion = job.getVersion();
+            
             job.setTitle(request.getTitle());
             job.setDescription(request.getDescription());
             job.setRequiredSkills(objectMapper.writeValueAsString(request.getRequiredSkills()));
+            job.setSkillIds(skillRegistry.intern(request.getRequiredSkills()));
             job.setCompany(request.getCompany());
             job.setLocation(request.getLocation());
             job.setMinExperience(request.getMinExperience());
@@ -104,7 +151,11 @@ public class JobController {
                 job.setQualifications(objectMapper.writeValueAsString(request.getQualifications()));
             }
             
-            jobRepository.save(job);
+            job = jobRepository.save(job);
+            jobFeedService.invalidate();
+            analysisService.evictProfile(job.getId());
+            // Any update bumps the version; stored scores follow it by delta instead of going stale
+            jobRescoringService.submit(job.getId(), oldVersion, oldSkillIds, job.getSkillIds(), job.getVersion());
             return ResponseEntity.ok(job);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -114,20 +165,20 @@ public class JobController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteJob(@PathVariable Long id, Authentication authentication) {
         try {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
             
             Job job = jobRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Job not found"));
             
-            if (!user.getRole().name().equals("ADMIN") && 
-                !job.getPostedBy().getId().equals(user.getId())) {
+            if (!principal.getRole().name().equals("ADMIN") && 
+                !job.getPostedBy().getId().equals(principal.getId())) {
                 return ResponseEntity.status(403).build();
             }
             
             job.setIsActive(false);
             jobRepository.save(job);
+            jobFeedService.invalidate();
+            analysisService.evictProfile(job.getId());
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
@@ -1,31 +1,41 @@
 package com.ats.resumeanalyzer.controller;
 
+import com.ats.resumeanalyzer.dto.BulkImportReport;
+import com.ats.resumeanalyzer.dto.ResumeSearchResponse;
+import com.ats.resumeanalyzer.model.IngestionStatus;
 import com.ats.resumeanalyzer.model.Resume;
-import com.ats.resumeanalyzer.model.User;
 import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.repository.ResumeSummary;
 import com.ats.resumeanalyzer.repository.UserRepository;
+import com.ats.resumeanalyzer.security.UserPrincipal;
+import com.ats.resumeanalyzer.service.BulkImportService;
+import com.ats.resumeanalyzer.service.ParsedResume;
+import com.ats.resumeanalyzer.service.ResumeIngestionService;
 import com.ats.resumeanalyzer.service.ResumeParserService;
+import com.ats.resumeanalyzer.service.ResumeSearchService;
+import com.ats.resumeanalyzer.service.ResumeStorageService;
+import com.ats.resumeanalyzer.service.ResumeStorageService.StoredFile;
+import com.ats.resumeanalyzer.service.SkillRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/resumes")
 @CrossOrigin(origins = "http://localhost:3000")
 public class ResumeController {
     
-    private static final String UPLOAD_DIR = "uploads/resumes/";
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
     
     @Autowired
     private ResumeRepository resumeRepository;
@@ -36,46 +46,47 @@ public class ResumeController {
     @Autowired
     private ResumeParserService resumeParserService;
     
-    static {
-        try {
-            Files.createDirectories(Paths.get(UPLOAD_DIR));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
+    @Autowired
+    private ResumeIngestionService resumeIngestionService;
+    
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+    
+    @Autowired
+    private SkillRegistry skillRegistry;
+    
+    @Autowired
+    private BulkImportService bulkImportService;
+    
+    @Autowired
+    private ResumeSearchService resumeSearchService;
     
     @PostMapping("/upload")
     public ResponseEntity<?> uploadResume(
             @RequestParam("file") MultipartFile file,
             Authentication authentication) {
         try {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
             
             if (file.isEmpty()) {
                 return ResponseEntity.badRequest().body("File is empty");
             }
             
             String originalFileName = file.getOriginalFilename();
-            String fileExtension = originalFileName != null 
-                    ? originalFileName.substring(originalFileName.lastIndexOf(".")) 
-                    : "";
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-            Path filePath = Paths.get(UPLOAD_DIR + uniqueFileName);
+            StoredFile storedFile = resumeStorageService.store(file);
             
-            Files.write(filePath, file.getBytes());
-            
-            String extractedText = resumeParserService.extractText(file);
-            String skills = resumeParserService.extractSkills(extractedText);
+            ParsedResume parsed = resumeParserService.parse(storedFile, originalFileName);
             
             Resume resume = new Resume();
             resume.setFileName(originalFileName);
-            resume.setFilePath(filePath.toString());
-            resume.setExtractedText(extractedText);
-            resume.setSkills(skills);
+            resume.setFilePath(storedFile.path().toString());
+            resume.setContentHash(storedFile.contentHash());
+            resume.setExtractedText(parsed.text());
+            resume.setSkills(parsed.skills());
+            resume.setSkillIds(skillRegistry.intern(parsed.skills()));
+            resume.setTruncatedBy(parsed.truncatedBy() != null ? parsed.truncatedBy().name() : null);
             resume.setUploadedAt(LocalDateTime.now());
-            resume.setUser(user);
+            resume.setUser(userRepository.getReferenceById(principal.getId()));
             
             resumeRepository.save(resume);
             
@@ -86,13 +97,110 @@ public class ResumeController {
         }
     }
     
+    @PostMapping("/ingest")
+    public ResponseEntity<?> ingestResume(
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+        try {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            
+            if (file.isEmpty()) {
+                return ResponseEntity.badRequest().body("File is empty");
+            }
+            
+            StoredFile storedFile = resumeStorageService.store(file);
+            
+            IngestionStatus status;
+            try {
+                status = resumeIngestionService.submit(
+                        userRepository.getReferenceById(principal.getId()), storedFile, file.getOriginalFilename());
+            } catch (RejectedExecutionException e) {
+                // The blob stays in the store; a retry of the same file is deduplicated against it
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .body("Too many resumes are being processed, please retry shortly");
+            }
+            
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/resumes/ingest/" + status.getId()))
+                    .body(status);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("Error uploading file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Imports every PDF/DOCX in a ZIP archive sent as the raw request body. The archive is
+     * read as a stream, so it is not subject to the multipart size limits.
+     */
+    @PostMapping(value = "/import", consumes = {"application/zip", "application/octet-stream"})
+    public ResponseEntity<?> importResumes(HttpServletRequest request, Authentication authentication) {
+        try {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            
+            if (!principal.getRole().name().equals("RECRUITER") && !principal.getRole().name().equals("ADMIN")) {
+                return ResponseEntity.status(403).build();
+            }
+            
+            BulkImportReport report = bulkImportService.importZip(principal.getId(), request.getInputStream());
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("Error importing resumes: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Full-text search across all resumes, best match first, e.g.
+     * {@code ?q="kafka streams" payments&skills=java,aws}. Pass the response's nextCursor
+     * back as {@code cursor} for the following page.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ResumeSearchResponse> searchResumes(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        
+        if (!principal.getRole().name().equals("RECRUITER") && !principal.getRole().name().equals("ADMIN")) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        if (q.isBlank() || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            return ResponseEntity.ok(resumeSearchService.search(q, skills, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/ingest/{id}")
+    public ResponseEntity<IngestionStatus> getIngestionStatus(@PathVariable String id, Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        
+        IngestionStatus status = resumeIngestionService.getStatus(id).orElse(null);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        if (!status.getUserId().equals(principal.getId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        return ResponseEntity.ok(status);
+    }
+    
     @GetMapping("/my-resumes")
-    public ResponseEntity<List<Resume>> getMyResumes(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public ResponseEntity<List<ResumeSummary>> getMyResumes(Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
         
-        List<Resume> resumes = resumeRepository.findByUserId(user.getId());
+        List<ResumeSummary> resumes = resumeRepository.findSummariesByUserId(principal.getId());
         return ResponseEntity.ok(resumes);
     }
     
@@ -101,11 +209,9 @@ public class ResumeController {
         Resume resume = resumeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Resume not found"));
         
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
         
-        if (!resume.getUser().getId().equals(user.getId())) {
+        if (!resume.getUser().getId().equals(principal.getId())) {
             return ResponseEntity.status(403).build();
         }
         
@@ -0,0 +1,19 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportReport {
+    private int totalFiles;
+    private int imported;
+    private int failed;
+    private long elapsedMillis;
+    private double filesPerSecond;
+    private List<ImportFailure> failures; // capped; see failed for the full count
+}
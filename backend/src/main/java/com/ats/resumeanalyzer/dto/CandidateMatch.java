@@ -0,0 +1,13 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatch {
+    private Long resumeId;
+    private Integer matchedSkills;
+}
@@ -0,0 +1,10 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RankRequest {
+    private List<Long> resumeIds; // optional, defaults to every resume
+}
@@ -0,0 +1,17 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedResume {
+    private Long resumeId;
+    private String fileName;
+    private Double matchPercentage;
+    private List<String> matchedSkills;
+}
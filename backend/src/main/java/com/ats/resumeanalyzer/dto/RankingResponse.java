@@ -0,0 +1,19 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingResponse {
+    private Long jobId;
+    private String jobTitle;
+    private Integer page;
+    private Integer size;
+    private Integer totalCandidates;
+    private List<RankedResume> results;
+}
@@ -0,0 +1,13 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelevanceHit {
+    private Long resumeId;
+    private Double score; // BM25, comparable only within one query
+}
@@ -0,0 +1,18 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSearchHit {
+    private Long resumeId;
+    private String fileName;
+    private LocalDateTime uploadedAt;
+    private Double rank;
+    private String highlight; // matching fragments, terms wrapped in <mark>; escape before rendering
+}
@@ -0,0 +1,19 @@
+package com.ats.resumeanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeSearchResponse {
+    private String query;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor; // pass back as ?cursor= for the following page
+    private boolean candidatesCapped; // only the newest search.max-candidates matches were ranked; narrow the query
+    private List<ResumeSearchHit> results;
+}
@@ -0,0 +1,61 @@
+package com.ats.resumeanalyzer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "analyses",
+        uniqueConstraints = @UniqueConstraint(name = "uk_analyses_resume_job", columnNames = {"resume_id", "job_id"}),
+        indexes = @Index(name = "idx_analyses_job_score", columnList = "job_id, match_percentage DESC, resume_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analyses_seq")
+    @SequenceGenerator(name = "analyses_seq", sequenceName = "analyses_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long resumeId;
+    
+    @Column(nullable = false)
+    private Long jobId;
+    
+    @Column
+    private Long resumeVersion;
+    
+    @Column
+    private Long jobVersion;
+    
+    @Column(nullable = false)
+    private Integer scorerVersion;
+    
+    @Column(nullable = false)
+    private Double matchPercentage;
+    
+    @Convert(converter = SkillIdsConverter.class)
+    @Column(length = 16384)
+    private int[] matchedSkillIds;
+    
+    @Convert(converter = SkillIdsConverter.class)
+    @Column(length = 16384)
+    private int[] missingSkillIds;
+    
+    @Column(nullable = false)
+    private LocalDateTime analyzedAt;
+    
+    /**
+     * Whether this row was computed from exactly these versions of the resume, job and scorer.
+     */
+    public boolean isCurrent(Long resumeVersion, Long jobVersion, int scorerVersion) {
+        return Objects.equals(this.resumeVersion, resumeVersion)
+                && Objects.equals(this.jobVersion, jobVersion)
+                && this.scorerVersion == scorerVersion;
+    }
+}
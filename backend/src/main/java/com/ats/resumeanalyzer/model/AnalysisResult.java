@@ -1,5 +1,6 @@
 package com.ats.resumeanalyzer.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,7 +15,8 @@ public class AnalysisResult {
     private List<String> matchedSkills;
     private List<String> missingSkills;
     private List<String> skillSuggestions;
-    private String resumeText;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String resumeText; // only set when the caller asks for it
     private String jobTitle;
     private Long resumeId;
     private Long jobId;
@@ -0,0 +1,31 @@
+package com.ats.resumeanalyzer.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class IngestionStatus {
+    private String id;
+    private String fileName;
+    private volatile State state;
+    private volatile Long resumeId;
+    private volatile String error;
+    private volatile String truncatedBy; // extraction budget limit that cut the text short
+    private LocalDateTime submittedAt;
+    private volatile LocalDateTime updatedAt;
+
+    @JsonIgnore
+    private Long userId;
+
+    public enum State {
+        QUEUED, PARSING, SAVING, COMPLETED, FAILED
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+}
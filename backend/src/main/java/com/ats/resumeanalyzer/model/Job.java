@@ -1,5 +1,6 @@
 package com.ats.resumeanalyzer.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -10,13 +11,14 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = @Index(name = "idx_jobs_feed", columnList = "is_active, posted_at DESC, id DESC"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Job {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -28,6 +30,11 @@ public class Job {
     @Column(columnDefinition = "LONGTEXT")
     private String requiredSkills; // JSON array of skills
     
+    @JsonIgnore
+    @Convert(converter = SkillIdsConverter.class)
+    @Column(length = 16384)
+    private int[] skillIds; // sorted ids from the skills table, null until migrated
+    
     @Column(nullable = false)
     private String company;
     
@@ -43,10 +50,16 @@ public class Job {
     @Column(nullable = false)
     private LocalDateTime postedAt;
     
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "posted_by")
     private User postedBy;
     
     @Column(nullable = false)
     private Boolean isActive = true;
+    
+    @JsonIgnore
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version; // bumped on every update; keys the cached scoring profile
 }
@@ -1,5 +1,7 @@
 package com.ats.resumeanalyzer.model;
 
+import com.ats.resumeanalyzer.service.ResumeIndexListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,13 +10,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resumes")
+@EntityListeners(ResumeIndexListener.class)
+@Table(name = "resumes", indexes = @Index(name = "idx_resumes_content_hash", columnList = "content_hash"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Resume {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resumes_seq")
+    @SequenceGenerator(name = "resumes_seq", sequenceName = "resumes_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -23,16 +27,33 @@ public class Resume {
     @Column(nullable = false)
     private String filePath;
     
+    @Column(length = 64)
+    private String contentHash; // SHA-256 of the uploaded bytes
+    
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGTEXT")
-    private String extractedText;
+    private String extractedText; // only deferred when Hibernate bytecode enhancement is enabled
     
     @Column(columnDefinition = "LONGTEXT")
     private String skills; // JSON array of skills
     
+    @Column(length = 16)
+    private String truncatedBy; // extraction budget limit that cut the text short, null when complete
+    
+    @JsonIgnore
+    @Convert(converter = SkillIdsConverter.class)
+    @Column(length = 16384)
+    private int[] skillIds; // sorted ids from the skills table, null until migrated
+    
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+    
+    @JsonIgnore
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version; // bumped on every update; stored analyses record which version they scored
 }
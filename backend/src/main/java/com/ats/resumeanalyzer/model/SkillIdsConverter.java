@@ -0,0 +1,33 @@
+package com.ats.resumeanalyzer.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores a sorted skill-id array as packed 4-byte big-endian ints.
+ */
+@Converter
+public class SkillIdsConverter implements AttributeConverter<int[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(int[] skillIds) {
+        if (skillIds == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(skillIds.length * Integer.BYTES);
+        buffer.asIntBuffer().put(skillIds);
+        return buffer.array();
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        int[] skillIds = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(skillIds);
+        return skillIds;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ats.resumeanalyzer.model;
 
+import com.ats.resumeanalyzer.security.UserCacheListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners(UserCacheListener.class)
 @Table(name = "users")
 @Data
 @NoArgsConstructor
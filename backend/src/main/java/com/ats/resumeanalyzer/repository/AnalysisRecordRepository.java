@@ -0,0 +1,39 @@
+package com.ats.resumeanalyzer.repository;
+
+import com.ats.resumeanalyzer.model.AnalysisRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AnalysisRecordRepository extends JpaRepository<AnalysisRecord, Long>, BatchingRepository<AnalysisRecord> {
+    Optional<AnalysisRecord> findByResumeIdAndJobId(Long resumeId, Long jobId);
+    
+    @Query("select a from AnalysisRecord a " +
+           "where a.jobId = :jobId and a.jobVersion = :jobVersion and a.scorerVersion = :scorerVersion " +
+           "and a.id > :afterId order by a.id")
+    List<AnalysisRecord> findBatchForJobVersion(@Param("jobId") Long jobId,
+                                                @Param("jobVersion") Long jobVersion,
+                                                @Param("scorerVersion") int scorerVersion,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+    
+    /**
+     * Best stored scores for a job, skipping rows computed from an older resume, job or scorer.
+     */
+    @Query("select a.resumeId as resumeId, r.fileName as fileName, " +
+           "a.matchPercentage as matchPercentage, a.matchedSkillIds as matchedSkillIds " +
+           "from AnalysisRecord a, Resume r " +
+           "where r.id = a.resumeId and r.version = a.resumeVersion " +
+           "and a.jobId = :jobId and a.jobVersion = :jobVersion and a.scorerVersion = :scorerVersion " +
+           "order by a.matchPercentage desc, a.resumeId")
+    List<ApplicantScoreView> findTopApplicants(@Param("jobId") Long jobId,
+                                               @Param("jobVersion") Long jobVersion,
+                                               @Param("scorerVersion") int scorerVersion,
+                                               Pageable pageable);
+}
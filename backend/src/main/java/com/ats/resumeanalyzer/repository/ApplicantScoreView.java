@@ -0,0 +1,11 @@
+package com.ats.resumeanalyzer.repository;
+
+/**
+ * A stored analysis joined with the resume's file name, for the top-applicants listing.
+ */
+public interface ApplicantScoreView {
+    Long getResumeId();
+    String getFileName();
+    Double getMatchPercentage();
+    int[] getMatchedSkillIds();
+}
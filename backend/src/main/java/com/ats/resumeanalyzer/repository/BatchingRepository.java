@@ -0,0 +1,12 @@
+package com.ats.resumeanalyzer.repository;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment for bulk writes. Entities are flushed every
+ * {@code hibernate.jdbc.batch_size} rows, so inserts and updates go out as JDBC batches,
+ * and are detached afterwards so the persistence context doesn't grow with the import.
+ */
+public interface BatchingRepository<T> {
+    void saveAllInBatches(Collection<T> entities);
+}
@@ -0,0 +1,48 @@
+package com.ats.resumeanalyzer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class BatchingRepositoryImpl<T> implements BatchingRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public void saveAllInBatches(Collection<T> entities) {
+        List<T> written = new ArrayList<>(batchSize);
+        int count = 0;
+        for (T entity : entities) {
+            if (entityManager.contains(entity)) {
+                // Managed by the caller already: dirty checking writes it, and it stays managed
+            } else if (entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity) == null) {
+                // Ids come from pooled sequences, so persist needs no round trip per row
+                entityManager.persist(entity);
+                written.add(entity);
+            } else {
+                written.add(entityManager.merge(entity));
+            }
+            if (++count % batchSize == 0) {
+                flush(written);
+            }
+        }
+        flush(written);
+    }
+
+    // Detach only what this call wrote; a caller's own managed entities stay managed
+    private void flush(List<T> written) {
+        entityManager.flush();
+        written.forEach(entityManager::detach);
+        written.clear();
+    }
+}
@@ -1,12 +1,24 @@
 package com.ats.resumeanalyzer.repository;
 
 import com.ats.resumeanalyzer.model.Job;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByIsActiveTrue();
+    
+    @Query("select j from Job j where j.isActive = true order by j.postedAt desc, j.id desc")
+    List<Job> findActiveFeed(Pageable pageable);
+    
+    @Query("select j from Job j where j.isActive = true " +
+           "and (j.postedAt < :postedAt or (j.postedAt = :postedAt and j.id < :id)) " +
+           "order by j.postedAt desc, j.id desc")
+    List<Job> findActiveFeedAfter(@Param("postedAt") LocalDateTime postedAt, @Param("id") Long id, Pageable pageable);
 }
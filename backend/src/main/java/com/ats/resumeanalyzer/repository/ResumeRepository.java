@@ -1,12 +1,29 @@
 package com.ats.resumeanalyzer.repository;
 
 import com.ats.resumeanalyzer.model.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ResumeRepository extends JpaRepository<Resume, Long> {
+public interface ResumeRepository extends JpaRepository<Resume, Long>, BatchingRepository<Resume> {
     List<Resume> findByUserId(Long userId);
+    List<ResumeSummary> findSummariesByUserId(Long userId);
+    
+    /**
+     * Resumes with this content whose text can be reused: complete, or cut only by a limit
+     * that gives the same result every time (pages or characters, not time or memory).
+     */
+    @Query("SELECT r FROM Resume r WHERE r.contentHash = :contentHash " +
+           "AND (r.truncatedBy IS NULL OR r.truncatedBy NOT IN ('TIME', 'MEMORY'))")
+    List<Resume> findReusableByContentHash(@Param("contentHash") String contentHash, Pageable pageable);
+    
+    List<ResumeSkillsView> findByIdIn(Collection<Long> ids);
+    List<ResumeTextView> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<ResumeSkillsView> findSkillsByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
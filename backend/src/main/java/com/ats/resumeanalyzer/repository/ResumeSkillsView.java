@@ -0,0 +1,11 @@
+package com.ats.resumeanalyzer.repository;
+
+/**
+ * Projection of the columns needed to score a resume, without its extracted text.
+ */
+public interface ResumeSkillsView {
+    Long getId();
+    String getFileName();
+    String getSkills();
+    int[] getSkillIds();
+}
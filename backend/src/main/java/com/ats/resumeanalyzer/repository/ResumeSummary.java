@@ -0,0 +1,45 @@
+package com.ats.resumeanalyzer.repository;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection used by resume listings; selects neither the extracted text nor the file path.
+ */
+public interface ResumeSummary {
+    Long getId();
+    String getFileName();
+    LocalDateTime getUploadedAt();
+    String getSkills();
+
+    @JsonIgnore
+    int[] getSkillIds();
+
+    default int getSkillCount() {
+        int[] skillIds = getSkillIds();
+        if (skillIds != null) {
+            return skillIds.length;
+        }
+        // Row written before skill ids existed; only legacy rows pay for the parse
+        String skills = getSkills();
+        if (skills == null || skills.isBlank()) {
+            return 0;
+        }
+        try {
+            return Holder.MAPPER.readTree(skills).size();
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+
+    // Interface fields would be public; the mapper is shared by every row without being exposed
+    final class Holder {
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private Holder() {
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.ats.resumeanalyzer.repository;
+
+/**
+ * Id and extracted text only, for rebuilding the relevance index.
+ */
+public interface ResumeTextView {
+    Long getId();
+    String getExtractedText();
+}
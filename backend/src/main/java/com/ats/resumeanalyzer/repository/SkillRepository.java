@@ -0,0 +1,12 @@
+package com.ats.resumeanalyzer.repository;
+
+import com.ats.resumeanalyzer.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+    Optional<Skill> findByName(String name);
+}
@@ -0,0 +1,39 @@
+package com.ats.resumeanalyzer.security;
+
+import com.ats.resumeanalyzer.model.User;
+import com.ats.resumeanalyzer.service.UserDetailsServiceImpl;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops a user from the principal cache whenever the users row changes, once the change
+ * is committed so a concurrent request cannot re-cache the old row.
+ */
+@Component
+public class UserCacheListener {
+
+    @Autowired
+    @Lazy
+    private UserDetailsServiceImpl userDetailsService;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String email = user.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsService.evict(email);
+                }
+            });
+        } else {
+            userDetailsService.evict(email);
+        }
+    }
+}
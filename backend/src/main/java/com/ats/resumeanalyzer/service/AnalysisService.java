@@ -1,84 +1,221 @@
 package com.ats.resumeanalyzer.service;
 
+import com.ats.resumeanalyzer.dto.RankedResume;
+import com.ats.resumeanalyzer.model.AnalysisRecord;
 import com.ats.resumeanalyzer.model.AnalysisResult;
 import com.ats.resumeanalyzer.model.Job;
 import com.ats.resumeanalyzer.model.Resume;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ats.resumeanalyzer.repository.AnalysisRecordRepository;
+import com.ats.resumeanalyzer.repository.ApplicantScoreView;
+import com.ats.resumeanalyzer.repository.JobRepository;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.util.BoundedCache;
+import com.ats.resumeanalyzer.util.IntPostings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class AnalysisService {
     
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Bump whenever scoring changes so stored analyses are recomputed
+    public static final int SCORER_VERSION = 2;
+    
+    @Autowired
+    private SkillRegistry skillRegistry;
+    
+    @Autowired
+    private SkillSimilarity skillSimilarity;
+    
+    @Autowired
+    private ResumeRepository resumeRepository;
+    
+    @Autowired
+    private JobRepository jobRepository;
+    
+    @Autowired
+    private AnalysisRecordRepository analysisRecordRepository;
+    
+    private final BoundedCache<Long, JobProfile> profiles;
+    
+    public AnalysisService(@Value("${job-profile.cache.max-entries:1000}") int maxEntries) {
+        this.profiles = new BoundedCache<>(maxEntries, Long.MAX_VALUE);
+    }
     
     public AnalysisResult analyzeResume(Resume resume, Job job) {
+        return analyzeResume(resume, job, false);
+    }
+    
+    /**
+     * Serves the comparison from the analyses table when it was stored for the current resume,
+     * job and scorer versions; otherwise scores it and stores the result.
+     */
+    public AnalysisResult analyzeResume(Resume resume, Job job, boolean includeText) {
         try {
-            List<String> resumeSkills = parseSkills(resume.getSkills());
-            List<String> jobSkills = parseSkills(job.getRequiredSkills());
-            
-            // Calculate match percentage
-            double matchPercentage = calculateMatchPercentage(resumeSkills, jobSkills);
-            
-            // Find matched and missing skills
-            List<String> matchedSkills = resumeSkills.stream()
-                    .filter(skill -> jobSkills.stream()
-                            .anyMatch(jobSkill -> jobSkill.equalsIgnoreCase(skill)))
-                    .collect(Collectors.toList());
-            
-            List<String> missingSkills = jobSkills.stream()
-                    .filter(jobSkill -> resumeSkills.stream()
-                            .noneMatch(skill -> skill.equalsIgnoreCase(jobSkill)))
-                    .collect(Collectors.toList());
-            
-            // Generate skill suggestions
-            List<String> skillSuggestions = generateSkillSuggestions(missingSkills, job);
+            JobProfile profile = buildProfile(job);
+            int[] resumeSkillIds = skillIdsOf(resume);
             
-            AnalysisResult result = new AnalysisResult();
-            result.setMatchPercentage(Math.round(matchPercentage * 100.0) / 100.0);
-            result.setMatchedSkills(matchedSkills);
-            result.setMissingSkills(missingSkills);
-            result.setSkillSuggestions(skillSuggestions);
-            result.setResumeText(resume.getExtractedText());
-            result.setJobTitle(job.getTitle());
-            result.setResumeId(resume.getId());
-            result.setJobId(job.getId());
+            AnalysisRecord record = analysisRecordRepository.findByResumeIdAndJobId(resume.getId(), job.getId())
+                    .orElse(null);
+            if (record == null || !record.isCurrent(resume.getVersion(), profile.version(), SCORER_VERSION)) {
+                record = store(score(resume, profile, resumeSkillIds), record);
+            }
             
-            return result;
+            return toResult(record, resume, job, includeText);
         } catch (Exception e) {
             throw new RuntimeException("Error analyzing resume: " + e.getMessage(), e);
         }
     }
     
-    private List<String> parseSkills(String skillsJson) {
+    /**
+     * Scores without reading or writing the analyses table.
+     */
+    public AnalysisResult evaluate(Resume resume, Job job, boolean includeText) {
         try {
-            if (skillsJson == null || skillsJson.trim().isEmpty() || skillsJson.equals("[]")) {
-                return new ArrayList<>();
-            }
-            return objectMapper.readValue(skillsJson, new TypeReference<List<String>>() {});
+            JobProfile profile = buildProfile(job);
+            return toResult(score(resume, profile, skillIdsOf(resume)), resume, job, includeText);
         } catch (Exception e) {
-            return new ArrayList<>();
+            throw new RuntimeException("Error analyzing resume: " + e.getMessage(), e);
         }
     }
     
-    private double calculateMatchPercentage(List<String> resumeSkills, List<String> jobSkills) {
-        if (jobSkills.isEmpty()) {
-            return 0.0;
+    /**
+     * Best stored scores for the job's current version, most matched first.
+     */
+    public List<RankedResume> topApplicants(Job job, int limit) {
+        JobProfile profile = buildProfile(job);
+        List<RankedResume> applicants = new ArrayList<>();
+        for (ApplicantScoreView view : analysisRecordRepository.findTopApplicants(
+                job.getId(), profile.version(), SCORER_VERSION, PageRequest.of(0, limit))) {
+            applicants.add(new RankedResume(
+                    view.getResumeId(),
+                    view.getFileName(),
+                    view.getMatchPercentage(),
+                    skillRegistry.names(view.getMatchedSkillIds())));
         }
+        return applicants;
+    }
+    
+    /**
+     * The one scoring function behind stored analyses and batch ranking; a change here
+     * needs a {@link #SCORER_VERSION} bump so stored scores are recomputed.
+     */
+    public SkillScore scoreSkills(JobProfile profile, int[] resumeSkillIds) {
+        // Find matched and missing skills against the cached job profile
+        int[] matched = profile.match(resumeSkillIds);
+        SkillSimilarity.Credit credit = skillSimilarity.credit(profile.skillIds(), matched, resumeSkillIds);
+        int[] missing = IntPostings.difference(
+                IntPostings.difference(profile.skillIds(), matched), credit.covered());
         
-        if (resumeSkills.isEmpty()) {
-            return 0.0;
+        // Calculate match percentage; close neighbours of a required skill earn partial credit
+        double matchPercentage = calculateMatchPercentage(matched.length + credit.credit(), profile);
+        return new SkillScore(matched, missing, Math.round(matchPercentage * 100.0) / 100.0);
+    }
+    
+    AnalysisRecord score(Resume resume, JobProfile profile, int[] resumeSkillIds) {
+        SkillScore score = scoreSkills(profile, resumeSkillIds);
+        
+        AnalysisRecord record = new AnalysisRecord();
+        record.setResumeId(resume.getId());
+        record.setJobId(profile.jobId());
+        record.setResumeVersion(resume.getVersion());
+        record.setJobVersion(profile.version());
+        record.setScorerVersion(SCORER_VERSION);
+        record.setMatchPercentage(score.matchPercentage());
+        record.setMatchedSkillIds(score.matched());
+        record.setMissingSkillIds(score.missing());
+        record.setAnalyzedAt(LocalDateTime.now());
+        return record;
+    }
+    
+    private AnalysisRecord store(AnalysisRecord fresh, AnalysisRecord stale) {
+        if (stale != null) {
+            fresh.setId(stale.getId());
+        }
+        try {
+            return analysisRecordRepository.save(fresh);
+        } catch (DataIntegrityViolationException e) {
+            // Another request stored the same comparison first; this result is just as good
+            return fresh;
+        }
+    }
+    
+    private AnalysisResult toResult(AnalysisRecord record, Resume resume, Job job, boolean includeText) {
+        List<String> matchedSkills = skillRegistry.names(record.getMatchedSkillIds());
+        List<String> missingSkills = skillRegistry.names(record.getMissingSkillIds());
+        
+        // Generate skill suggestions
+        List<String> skillSuggestions = generateSkillSuggestions(missingSkills, job);
+        
+        AnalysisResult result = new AnalysisResult();
+        result.setMatchPercentage(record.getMatchPercentage());
+        result.setMatchedSkills(matchedSkills);
+        result.setMissingSkills(missingSkills);
+        result.setSkillSuggestions(skillSuggestions);
+        if (includeText) {
+            result.setResumeText(resume.getExtractedText());
+        }
+        result.setJobTitle(job.getTitle());
+        result.setResumeId(resume.getId());
+        result.setJobId(job.getId());
+        
+        return result;
+    }
+    
+    /**
+     * The job's scoring profile, reused across analyses until the job row changes version.
+     */
+    public JobProfile buildProfile(Job job) {
+        JobProfile cached = job.getId() != null ? profiles.get(job.getId()) : null;
+        if (cached != null && Objects.equals(cached.version(), job.getVersion())) {
+            return cached;
+        }
+        
+        int[] skillIds = job.getSkillIds();
+        Long version = job.getVersion();
+        if (skillIds == null) {
+            // Row written before skill ids existed; migrate it on first use
+            skillIds = skillRegistry.intern(job.getRequiredSkills());
+            job.setSkillIds(skillIds);
+            version = jobRepository.save(job).getVersion();
         }
         
-        long matchedCount = resumeSkills.stream()
-                .mapToLong(resumeSkill -> jobSkills.stream()
-                        .anyMatch(jobSkill -> jobSkill.equalsIgnoreCase(resumeSkill)) ? 1 : 0)
-                .sum();
+        JobProfile profile = new JobProfile(job.getId(), version, job.getTitle(), skillIds, job.getMinExperience());
+        if (job.getId() != null) {
+            profiles.put(job.getId(), profile);
+        }
+        return profile;
+    }
+    
+    public void evictProfile(Long jobId) {
+        profiles.invalidate(jobId);
+    }
+    
+    int[] skillIdsOf(Resume resume) {
+        int[] skillIds = resume.getSkillIds();
+        if (skillIds == null) {
+            skillIds = skillRegistry.intern(resume.getSkills());
+            resume.setSkillIds(skillIds);
+            resume.setVersion(resumeRepository.save(resume).getVersion());
+        }
+        return skillIds;
+    }
+    
+    public double calculateMatchPercentage(double matchedCount, JobProfile profile) {
+        return calculateMatchPercentage(matchedCount, profile.skillIds().length);
+    }
+    
+    public double calculateMatchPercentage(double matchedCount, int requiredCount) {
+        if (requiredCount == 0) {
+            return 0.0;
+        }
         
-        return (double) matchedCount / jobSkills.size() * 100.0;
+        return matchedCount / requiredCount * 100.0;
     }
     
     private List<String> generateSkillSuggestions(List<String> missingSkills, Job job) {
@@ -0,0 +1,338 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.dto.RelevanceHit;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.repository.ResumeTextView;
+import com.ats.resumeanalyzer.util.IntIntHashMap;
+import com.ats.resumeanalyzer.util.TextTokenizer;
+import com.ats.resumeanalyzer.util.TopK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory BM25 over extracted resume text. Each resume is kept as a term vector
+ * (sorted term ids with their frequencies), and document frequencies are a plain int
+ * array indexed by term id, updated incrementally as resumes are saved.
+ *
+ * Scoring walks every candidate's vector once, merging it with the sorted query terms,
+ * so ranking a few thousand resumes costs a few milliseconds.
+ *
+ * A rebuild indexes into a fresh {@link Corpus} while the old one keeps serving, then swaps
+ * it in and replays the saves and removals that arrived meanwhile, so a text read before a
+ * concurrent update never overwrites it.
+ */
+@Service
+public class Bm25Index {
+
+    private static final Logger log = LoggerFactory.getLogger(Bm25Index.class);
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int REBUILD_PAGE = 500;
+    private static final Comparator<RelevanceHit> BEST_FIRST = Comparator
+            .comparing(RelevanceHit::getScore, Comparator.reverseOrder())
+            .thenComparing(RelevanceHit::getResumeId);
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Corpus corpus = new Corpus();
+    // Saves and removals seen while a rebuild runs, replayed onto the new corpus; null otherwise
+    private Map<Long, Update> pending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                return; // another rebuild is running
+            }
+            pending = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Corpus fresh = null;
+        int indexed = 0;
+        try {
+            fresh = load();
+            indexed = fresh.docs.size();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (fresh != null) {
+                    for (Map.Entry<Long, Update> update : pending.entrySet()) {
+                        fresh.apply(update.getKey(), update.getValue());
+                    }
+                    corpus = fresh;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Built BM25 term vectors for {} resumes in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    public void index(Long resumeId, String text) {
+        // Most saves only bump the version; skip tokenizing a text the index already holds
+        lock.readLock().lock();
+        try {
+            if (pending == null && corpus.holds(resumeId, text)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Update update = Update.of(text);
+        lock.writeLock().lock();
+        try {
+            corpus.apply(resumeId, update);
+            if (pending != null) {
+                pending.put(resumeId, update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long resumeId) {
+        lock.writeLock().lock();
+        try {
+            corpus.apply(resumeId, Update.REMOVED);
+            if (pending != null) {
+                pending.put(resumeId, Update.REMOVED);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 scores of the given resumes (all indexed resumes if null) against free text such
+     * as a job description, best first; resumes sharing no term with the query are left out.
+     */
+    public List<RelevanceHit> rank(String query, Collection<Long> resumeIds, int limit) {
+        TopK<RelevanceHit> top = TopK.create(limit, BEST_FIRST);
+        lock.readLock().lock();
+        try {
+            Corpus c = corpus;
+            int n = c.docs.size();
+            if (n == 0) {
+                return List.of();
+            }
+            Query q = c.query(query, n);
+            if (q.terms().length == 0) {
+                return List.of();
+            }
+            double avgLength = (double) c.totalLength / n;
+            if (resumeIds == null) {
+                c.docs.forEach((id, doc) -> offer(top, id, score(doc, q, avgLength)));
+            } else {
+                for (Long id : resumeIds) {
+                    DocVector doc = c.docs.get(id);
+                    if (doc != null) {
+                        offer(top, id, score(doc, q, avgLength));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top.toSortedList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return corpus.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Pages through the texts so the whole corpus is never loaded at once
+    private Corpus load() {
+        Corpus fresh = new Corpus();
+        long afterId = 0;
+        List<ResumeTextView> page;
+        do {
+            page = resumeRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_PAGE));
+            for (ResumeTextView resume : page) {
+                fresh.apply(resume.getId(), Update.of(resume.getExtractedText()));
+                afterId = resume.getId();
+            }
+        } while (page.size() == REBUILD_PAGE);
+        return fresh;
+    }
+
+    private static void offer(TopK<RelevanceHit> top, Long id, double score) {
+        if (score > 0) {
+            top.offer(new RelevanceHit(id, Math.round(score * 1000.0) / 1000.0));
+        }
+    }
+
+    private static double score(DocVector doc, Query q, double avgLength) {
+        double norm = K1 * (1 - B + B * doc.length() / avgLength);
+        double score = 0;
+        int[] terms = doc.terms();
+        int i = 0;
+        int j = 0;
+        while (i < terms.length && j < q.terms().length) {
+            if (terms[i] < q.terms()[j]) {
+                i++;
+            } else if (terms[i] > q.terms()[j]) {
+                j++;
+            } else {
+                int tf = doc.tfs()[i];
+                score += q.weights()[j] * tf * (K1 + 1) / (tf + norm);
+                i++;
+                j++;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Term dictionary, document frequencies and term vectors. Not thread-safe: the live corpus
+     * is guarded by the index lock, and one being rebuilt is private to the rebuilding thread.
+     *
+     * A term whose document frequency drops to zero is forgotten and its id reused, so the
+     * dictionary tracks the live corpus instead of every word ever indexed.
+     */
+    private static final class Corpus {
+
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final Map<Long, DocVector> docs = new HashMap<>();
+        private String[] terms = new String[1024];
+        private int[] documentFrequency = new int[1024];
+        private int[] freeIds = new int[16];
+        private int freeCount;
+        private long totalLength;
+
+        void apply(Long resumeId, Update update) {
+            if (update.terms() == null) {
+                remove(resumeId);
+                return;
+            }
+            DocVector existing = docs.get(resumeId);
+            if (existing != null && existing.textHash() == update.textHash() && existing.textLength() == update.textLength()) {
+                return; // re-save without a text change, e.g. a version bump
+            }
+            remove(resumeId);
+
+            IntIntHashMap counts = new IntIntHashMap(Math.max(16, update.terms().size() / 4));
+            for (String term : update.terms()) {
+                counts.addTo(termId(term), 1);
+            }
+            int[] ids = counts.sortedKeys();
+            int[] tfs = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                tfs[i] = counts.get(ids[i]);
+                documentFrequency[ids[i]]++;
+            }
+            docs.put(resumeId, new DocVector(ids, tfs, update.terms().size(), update.textHash(), update.textLength()));
+            totalLength += update.terms().size();
+        }
+
+        // Hash and length together, so a hash collision alone can't hide an edit
+        boolean holds(Long resumeId, String text) {
+            DocVector existing = docs.get(resumeId);
+            return existing != null
+                    && existing.textHash() == (text == null ? 0 : text.hashCode())
+                    && existing.textLength() == (text == null ? 0 : text.length());
+        }
+
+        /**
+         * Known query terms in ascending id order, each weighted by idf times its query frequency.
+         */
+        Query query(String text, int docCount) {
+            IntIntHashMap counts = new IntIntHashMap();
+            TextTokenizer.tokenize(text, term -> {
+                Integer id = termIds.get(term);
+                if (id != null && documentFrequency[id] > 0) {
+                    counts.addTo(id, 1);
+                }
+            });
+            int[] queryTerms = counts.sortedKeys();
+            double[] weights = new double[queryTerms.length];
+            for (int i = 0; i < queryTerms.length; i++) {
+                int df = documentFrequency[queryTerms[i]];
+                weights[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5)) * counts.get(queryTerms[i]);
+            }
+            return new Query(queryTerms, weights);
+        }
+
+        private int termId(String term) {
+            Integer id = termIds.get(term);
+            if (id == null) {
+                if (freeCount > 0) {
+                    id = freeIds[--freeCount];
+                } else {
+                    id = termIds.size();
+                    if (id >= documentFrequency.length) {
+                        documentFrequency = Arrays.copyOf(documentFrequency, documentFrequency.length * 2);
+                        terms = Arrays.copyOf(terms, terms.length * 2);
+                    }
+                }
+                termIds.put(term, id);
+                terms[id] = term;
+            }
+            return id;
+        }
+
+        private void remove(Long resumeId) {
+            DocVector doc = docs.remove(resumeId);
+            if (doc == null) {
+                return;
+            }
+            for (int term : doc.terms()) {
+                if (--documentFrequency[term] == 0) {
+                    termIds.remove(terms[term]);
+                    terms[term] = null;
+                    if (freeCount == freeIds.length) {
+                        freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+                    }
+                    freeIds[freeCount++] = term;
+                }
+            }
+            totalLength -= doc.length();
+        }
+    }
+
+    /**
+     * A tokenized save, or a removal when {@code terms} is null.
+     */
+    private record Update(List<String> terms, int textHash, int textLength) {
+
+        static final Update REMOVED = new Update(null, 0, 0);
+
+        static Update of(String text) {
+            List<String> terms = new ArrayList<>();
+            TextTokenizer.tokenize(text, terms::add);
+            return new Update(terms, text == null ? 0 : text.hashCode(), text == null ? 0 : text.length());
+        }
+    }
+
+    private record DocVector(int[] terms, int[] tfs, int length, int textHash, int textLength) {
+    }
+
+    private record Query(int[] terms, double[] weights) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.ats.resumeanalyzer.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Passes text through until the character budget is spent, writing what still fits and
+ * then throwing {@link ExtractionBudget.Exceeded}. Also checks the wall-clock budget on
+ * every write, which is how extractors without page hooks notice a timeout.
+ */
+public class BudgetedWriter extends Writer {
+
+    private final Writer out;
+    private final ExtractionBudget budget;
+    private final int maxChars;
+    private int written;
+
+    public BudgetedWriter(Writer out, ExtractionBudget budget) {
+        this(out, budget, budget.maxChars());
+    }
+
+    public BudgetedWriter(Writer out, ExtractionBudget budget, int maxChars) {
+        this.out = out;
+        this.budget = budget;
+        this.maxChars = maxChars;
+    }
+
+    public int written() {
+        return written;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        budget.checkTime();
+        int room = maxChars - written;
+        if (length > room) {
+            out.write(chars, offset, room);
+            written = maxChars;
+            throw budget.exceeded(ExtractionBudget.Limit.CHARS);
+        }
+        out.write(chars, offset, length);
+        written += length;
+    }
+
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        budget.checkTime();
+        int room = maxChars - written;
+        if (length > room) {
+            out.write(text, offset, room);
+            written = maxChars;
+            throw budget.exceeded(ExtractionBudget.Limit.CHARS);
+        }
+        out.write(text, offset, length);
+        written += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.dto.BulkImportReport;
+import com.ats.resumeanalyzer.model.User;
+import com.ats.resumeanalyzer.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+
+/**
+ * Command-line import for migrations, e.g.
+ * {@code java -jar app.jar --bulk-import.directory=/data/resumes --bulk-import.owner=admin@example.com}.
+ * Runs once at startup; the application keeps serving afterwards.
+ */
+@Component
+@ConditionalOnProperty("bulk-import.directory")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportRunner.class);
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${bulk-import.directory}")
+    private String directory;
+
+    @Value("${bulk-import.owner}")
+    private String ownerEmail;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        User owner = userRepository.findByEmail(ownerEmail)
+                .orElseThrow(() -> new RuntimeException("User not found: " + ownerEmail));
+
+        BulkImportReport report = bulkImportService.importDirectory(owner.getId(), Paths.get(directory));
+        report.getFailures().forEach(failure ->
+                log.warn("Could not import {}: {}", failure.getFileName(), failure.getError()));
+    }
+}
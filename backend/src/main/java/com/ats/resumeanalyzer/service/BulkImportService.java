@@ -0,0 +1,307 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.dto.BulkImportReport;
+import com.ats.resumeanalyzer.dto.ImportFailure;
+import com.ats.resumeanalyzer.model.Resume;
+import com.ats.resumeanalyzer.model.User;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.repository.UserRepository;
+import com.ats.resumeanalyzer.service.ResumeStorageService.StoredFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Imports many resumes in one go, from a ZIP stream or a server-side directory.
+ *
+ * Files are read one at a time (a ZIP is never buffered whole), stored, and handed to
+ * {@code bulkImportExecutor} for parsing on all cores; when the workers fall behind the
+ * reading thread parses too, which bounds memory. Parsed resumes are written through
+ * {@link ResumeRepository#saveAllInBatches}, i.e. as JDBC batches rather than one round trip each.
+ *
+ * Archive entries bypass the multipart limits, so each is cut off at the same
+ * {@code max-file-size} as an upload, and an archive stops after {@code bulk-import.max-entries}
+ * resumes or {@code bulk-import.max-total-size} of inflated content.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+    private static final int MAX_REPORTED_FAILURES = 1000;
+    private static final List<String> SUPPORTED_EXTENSIONS = List.of(".pdf", ".docx", ".odt", ".rtf", ".txt");
+
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Autowired
+    private SkillRegistry skillRegistry;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ThreadPoolExecutor bulkImportExecutor;
+
+    @Value("${bulk-import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxEntrySize;
+
+    @Value("${bulk-import.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${bulk-import.max-total-size:2GB}")
+    private DataSize maxTotalSize;
+
+    public BulkImportReport importZip(Long userId, InputStream archive) {
+        Run run = new Run(userId);
+        long remaining = maxTotalSize.toBytes();
+        try (ZipInputStream zip = new ZipInputStream(archive)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || !isSupported(entry.getName())) {
+                    continue;
+                }
+                if (run.total.get() >= maxEntries) {
+                    run.fail("(archive)", new IOException("More than " + maxEntries + " resumes; the rest were skipped"));
+                    break;
+                }
+                // An oversized entry fails alone; getNextEntry skips the rest of it
+                EntryStream in = new EntryStream(zip, Math.min(maxEntrySize.toBytes(), remaining));
+                run.submit(baseName(entry.getName()), in);
+                remaining -= in.bytesRead();
+                if (remaining <= 0) {
+                    run.fail("(archive)", new IOException("Expands to more than " + maxTotalSize.toMegabytes() + "MB; the rest was skipped"));
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // A truncated or corrupt archive: keep what was read so far
+            log.warn("Stopped reading archive after {} files", run.total.get(), e);
+            run.fail("(archive)", e);
+        }
+        return run.finish();
+    }
+
+    public BulkImportReport importDirectory(Long userId, Path directory) throws IOException {
+        Run run = new Run(userId);
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> it = files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> isSupported(file.getFileName().toString()))
+                    .iterator();
+            while (it.hasNext()) {
+                Path file = it.next();
+                run.submit(file);
+            }
+        }
+        return run.finish();
+    }
+
+    /**
+     * One archive entry, failing with an IOException once it passes {@code limit} bytes.
+     * Closing it leaves the archive open for the next entry.
+     */
+    private static final class EntryStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        EntryStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        long bytesRead() {
+            return Math.min(count, limit);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        // Asks for at most one byte past the limit, enough to tell an entry that ends there
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, (int) Math.min(length, limit - count + 1));
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(int n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new IOException("Larger than " + DataSize.ofBytes(limit).toMegabytes() + "MB");
+            }
+        }
+    }
+
+    private static boolean isSupported(String name) {
+        String lower = name.toLowerCase();
+        return SUPPORTED_EXTENSIONS.stream().anyMatch(lower::endsWith) && !baseName(name).startsWith(".");
+    }
+
+    private static String baseName(String name) {
+        return name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+    }
+
+    /**
+     * State of one import: outstanding parse tasks, the pending insert batch and the tallies.
+     */
+    private final class Run {
+        private final User owner;
+        private final long startNanos = System.nanoTime();
+        private final Phaser outstanding = new Phaser(1);
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger imported = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final ConcurrentLinkedQueue<ImportFailure> failures = new ConcurrentLinkedQueue<>();
+        private final List<Resume> pending = new ArrayList<>();
+
+        Run(Long userId) {
+            this.owner = userRepository.getReferenceById(userId);
+        }
+
+        void submit(Path file) {
+            String fileName = file.getFileName().toString();
+            InputStream in;
+            try {
+                in = Files.newInputStream(file);
+            } catch (IOException e) {
+                total.incrementAndGet();
+                fail(fileName, e);
+                return;
+            }
+            try (in) {
+                submit(fileName, in);
+            } catch (IOException e) {
+                log.debug("Could not close {}", file, e);
+            }
+        }
+
+        void submit(String fileName, InputStream content) {
+            total.incrementAndGet();
+            StoredFile stored;
+            try {
+                stored = resumeStorageService.store(content, fileName);
+            } catch (IOException e) {
+                fail(fileName, e);
+                return;
+            }
+            outstanding.register();
+            bulkImportExecutor.execute(() -> {
+                try {
+                    parse(stored, fileName);
+                } catch (Exception e) {
+                    fail(fileName, e);
+                } finally {
+                    outstanding.arriveAndDeregister();
+                }
+            });
+        }
+
+        private void parse(StoredFile stored, String fileName) throws Exception {
+            ParsedResume parsed = resumeParserService.parse(stored, fileName);
+            Resume resume = new Resume();
+            resume.setFileName(fileName);
+            resume.setFilePath(stored.path().toString());
+            resume.setContentHash(stored.contentHash());
+            resume.setExtractedText(parsed.text());
+            resume.setSkills(parsed.skills());
+            resume.setSkillIds(skillRegistry.intern(parsed.skills()));
+            resume.setTruncatedBy(parsed.truncatedBy() != null ? parsed.truncatedBy().name() : null);
+            resume.setUploadedAt(LocalDateTime.now());
+            resume.setUser(owner);
+            List<Resume> batch = null;
+            synchronized (pending) {
+                pending.add(resume);
+                if (pending.size() >= batchSize) {
+                    batch = new ArrayList<>(pending);
+                    pending.clear();
+                }
+            }
+            if (batch != null) {
+                insert(batch);
+            }
+        }
+
+        private void insert(List<Resume> batch) {
+            try {
+                resumeRepository.saveAllInBatches(batch);
+                imported.addAndGet(batch.size());
+            } catch (Exception e) {
+                for (Resume resume : batch) {
+                    fail(resume.getFileName(), e);
+                }
+            }
+        }
+
+        void fail(String fileName, Exception e) {
+            failed.incrementAndGet();
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new ImportFailure(fileName, e.getMessage()));
+            }
+        }
+
+        BulkImportReport finish() {
+            outstanding.arriveAndAwaitAdvance();
+            List<Resume> rest;
+            synchronized (pending) {
+                rest = new ArrayList<>(pending);
+                pending.clear();
+            }
+            if (!rest.isEmpty()) {
+                insert(rest);
+            }
+
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            double filesPerSecond = elapsedMillis == 0 ? 0.0 : total.get() * 1000.0 / elapsedMillis;
+            log.info("Imported {} of {} resumes ({} failed) in {} ms, {} files/s",
+                    imported.get(), total.get(), failed.get(), elapsedMillis, String.format("%.1f", filesPerSecond));
+            return new BulkImportReport(
+                    total.get(),
+                    imported.get(),
+                    failed.get(),
+                    elapsedMillis,
+                    Math.round(filesPerSecond * 10.0) / 10.0,
+                    new ArrayList<>(failures));
+        }
+    }
+}
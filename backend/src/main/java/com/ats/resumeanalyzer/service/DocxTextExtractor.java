@@ -0,0 +1,135 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.util.XmlStreams;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streams {@code word/document.xml} out of the DOCX zip with StAX, writing the text runs
+ * as they are read. Nothing of the document is held in memory beyond the parser's buffer.
+ * Header parts come before the body and footer parts after it, the order POI used.
+ */
+@Component
+@Order(2)
+public class DocxTextExtractor implements ResumeTextExtractor {
+
+    private static final String DOCUMENT = "word/document.xml";
+    private static final String W = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    @Override
+    public String format() {
+        return "docx";
+    }
+
+    @Override
+    public boolean supports(byte[] header, Path file) throws IOException {
+        if (!ResumeTextExtractor.startsWith(header, "PK\u0003\u0004")) {
+            return false;
+        }
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            return zip.getEntry(DOCUMENT) != null;
+        }
+    }
+
+    @Override
+    public void extract(Path file, Writer out, ExtractionBudget budget) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry(DOCUMENT);
+            if (entry == null) {
+                throw new IOException("Not a Word document: missing " + DOCUMENT);
+            }
+            for (ZipEntry header : parts(zip, "word/header")) {
+                write(zip, header, out);
+            }
+            write(zip, entry, out);
+            for (ZipEntry footer : parts(zip, "word/footer")) {
+                write(zip, footer, out);
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed Word document: " + e.getMessage(), e);
+        }
+    }
+
+    // header1.xml, header2.xml, ... in numeric order
+    private static List<? extends ZipEntry> parts(ZipFile zip, String prefix) {
+        Pattern name = Pattern.compile(Pattern.quote(prefix) + "(\\d*)\\.xml");
+        return zip.stream()
+                .filter(entry -> name.matcher(entry.getName()).matches())
+                .sorted(Comparator.comparingInt((ZipEntry entry) -> entry.getName().length())
+                        .thenComparing(ZipEntry::getName))
+                .toList();
+    }
+
+    private void write(ZipFile zip, ZipEntry entry, Writer out) throws XMLStreamException, IOException {
+        try (InputStream in = zip.getInputStream(entry)) {
+            write(XmlStreams.open(in), out);
+        }
+    }
+
+    private void write(XMLStreamReader xml, Writer out) throws XMLStreamException, IOException {
+        try {
+            // Only w:t holds visible text; deleted runs (w:delText) and field codes are skipped.
+            // w:tab also names tab stops in paragraph properties, so tabs count only inside runs.
+            boolean inRun = false;
+            boolean inText = false;
+            while (xml.hasNext()) {
+                switch (xml.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        if (W.equals(xml.getNamespaceURI())) {
+                            switch (xml.getLocalName()) {
+                                case "r" -> inRun = true;
+                                case "t" -> inText = true;
+                                case "tab" -> {
+                                    if (inRun) {
+                                        out.write('\t');
+                                    }
+                                }
+                                case "br", "cr" -> {
+                                    if (inRun) {
+                                        out.write('\n');
+                                    }
+                                }
+                                default -> {
+                                }
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (W.equals(xml.getNamespaceURI())) {
+                            switch (xml.getLocalName()) {
+                                case "r" -> inRun = false;
+                                case "t" -> inText = false;
+                                case "p" -> out.write('\n');
+                                case "tc" -> out.write('\t');
+                                default -> {
+                                }
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (inText) {
+                            out.write(xml.getTextCharacters(), xml.getTextStart(), xml.getTextLength());
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            xml.close();
+        }
+    }
+}
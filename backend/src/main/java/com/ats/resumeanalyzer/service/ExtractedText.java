@@ -0,0 +1,12 @@
+package com.ats.resumeanalyzer.service;
+
+/**
+ * Text extracted from one document, with the pages read, the budget limit that cut it
+ * short (null when it ran to completion) and the time it took.
+ */
+public record ExtractedText(String text, int pages, ExtractionBudget.Limit truncatedBy, long elapsedMillis) {
+
+    public boolean isTruncated() {
+        return truncatedBy != null;
+    }
+}
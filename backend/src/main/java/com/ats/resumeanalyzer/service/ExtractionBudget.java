@@ -0,0 +1,110 @@
+package com.ats.resumeanalyzer.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limits on the work spent extracting one document. The first limit reached is recorded;
+ * extraction then stops and keeps the text produced so far.
+ */
+public final class ExtractionBudget {
+
+    public enum Limit {
+        PAGES, CHARS, TIME, MEMORY;
+
+        /**
+         * Whether the same document always stops at the same place. Time and memory depend
+         * on the load of the node at the time.
+         */
+        public boolean isDeterministic() {
+            return this == PAGES || this == CHARS;
+        }
+    }
+
+    private final int maxPages;
+    private final int maxChars;
+    private final long maxMemoryBytes;
+    private final long startNanos = System.nanoTime();
+    private final long deadline;
+    private final AtomicReference<Limit> tripped = new AtomicReference<>();
+    private int pages;
+
+    public ExtractionBudget(int maxPages, int maxChars, long maxMemoryBytes, long timeoutMillis) {
+        this.maxPages = maxPages;
+        this.maxChars = maxChars;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    public int maxPages() {
+        return maxPages;
+    }
+
+    public int maxChars() {
+        return maxChars;
+    }
+
+    public long maxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * Throws {@link Exceeded} once the wall-clock budget is spent.
+     */
+    public void checkTime() throws Exceeded {
+        if (System.nanoTime() - deadline > 0) {
+            throw exceeded(Limit.TIME);
+        }
+    }
+
+    /**
+     * Records the limit unless another one was reached first, and returns the exception
+     * that unwinds the extraction.
+     */
+    public Exceeded exceeded(Limit limit) {
+        trip(limit);
+        return new Exceeded(limit);
+    }
+
+    public void trip(Limit limit) {
+        tripped.compareAndSet(null, limit);
+    }
+
+    public Limit tripped() {
+        return tripped.get();
+    }
+
+    /**
+     * Counts pages whose text made it into the output; called by the thread writing it.
+     */
+    public void addPages(int count) {
+        pages += count;
+    }
+
+    public ExtractedText result(String text) {
+        return new ExtractedText(text, pages, tripped(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Unwinds an extractor out of library code when a limit is reached. It is an
+     * {@link IOException} so it passes through PDFBox and POI writers unchanged.
+     */
+    public static final class Exceeded extends IOException {
+
+        private final Limit limit;
+
+        Exceeded(Limit limit) {
+            super("Extraction budget exceeded: " + limit);
+            this.limit = limit;
+        }
+
+        public Limit getLimit() {
+            return limit;
+        }
+    }
+}
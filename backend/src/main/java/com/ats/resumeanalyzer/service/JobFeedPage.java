@@ -0,0 +1,11 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.model.Job;
+
+import java.util.List;
+
+/**
+ * One page of the public job feed; {@code nextCursor} is null on the last page.
+ */
+public record JobFeedPage(List<Job> jobs, String nextCursor) {
+}
@@ -0,0 +1,111 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.model.Job;
+import com.ats.resumeanalyzer.repository.JobRepository;
+import com.ats.resumeanalyzer.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Public job feed, newest first, paged by a (postedAt, id) keyset cursor so every page
+ * costs one index range scan regardless of how deep the client has scrolled.
+ *
+ * Pages are cached until the next job write; {@link #invalidate()} bumps the generation
+ * that the cache keys and ETags are derived from.
+ */
+@Service
+public class JobFeedService {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final BoundedCache<String, JobFeedPage> pages;
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+    private volatile long lastModified = System.currentTimeMillis();
+
+    public JobFeedService(@Value("${job-feed.cache.max-entries:64}") int maxEntries,
+                          @Value("${job-feed.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.pages = new BoundedCache<>(maxEntries, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} for a cursor this service did not issue.
+     */
+    public JobFeedPage page(String cursor, int size) {
+        long gen = generation.get();
+        String key = gen + ":" + size + ":" + (cursor == null ? "" : cursor);
+        JobFeedPage page = pages.get(key);
+        if (page != null) {
+            return page;
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Job> jobs;
+        if (cursor == null) {
+            jobs = jobRepository.findActiveFeed(limit);
+        } else {
+            Cursor after = decode(cursor);
+            jobs = jobRepository.findActiveFeedAfter(after.postedAt(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (jobs.size() > size) {
+            jobs = List.copyOf(jobs.subList(0, size));
+            Job last = jobs.get(size - 1);
+            nextCursor = encode(last.getPostedAt(), last.getId());
+        } else {
+            jobs = List.copyOf(jobs);
+        }
+
+        page = new JobFeedPage(jobs, nextCursor);
+        // A write that landed while we were reading has moved the generation on; don't cache
+        if (generation.get() == gen) {
+            pages.put(key, page);
+        }
+        return page;
+    }
+
+    public String etag(String cursor, int size) {
+        String page = size + ":" + (cursor == null ? "" : cursor);
+        return "\"" + Long.toHexString(generation.get()) + "-" + Integer.toHexString(page.hashCode()) + "\"";
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+        pages.invalidateAll();
+    }
+
+    private static String encode(LocalDateTime postedAt, Long id) {
+        String raw = postedAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (IndexOutOfBoundsException | DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private record Cursor(LocalDateTime postedAt, long id) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.ats.resumeanalyzer.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A job's required skills resolved once to sorted skill ids, so many resumes can be
+ * scored against it without touching the job entity again. Cached per job id and
+ * entity version by {@link AnalysisService}.
+ */
+public record JobProfile(
+        Long jobId,
+        Long version,
+        String jobTitle,
+        int[] skillIds,
+        BitSet skillSet,
+        Integer minExperience) {
+
+    public JobProfile(Long jobId, Long version, String jobTitle, int[] skillIds, Integer minExperience) {
+        this(jobId, version, jobTitle, skillIds, toBitSet(skillIds), minExperience);
+    }
+
+    /**
+     * The resume's skills that the job asks for, in ascending id order; one pass over the resume.
+     */
+    public int[] match(int[] resumeSkillIds) {
+        int[] matched = new int[Math.min(resumeSkillIds.length, skillIds.length)];
+        int n = 0;
+        for (int i = 0; i < resumeSkillIds.length && n < matched.length; i++) {
+            if (skillSet.get(resumeSkillIds[i])) {
+                matched[n++] = resumeSkillIds[i];
+            }
+        }
+        return n == matched.length ? matched : Arrays.copyOf(matched, n);
+    }
+
+    private static BitSet toBitSet(int[] skillIds) {
+        BitSet set = new BitSet(skillIds.length == 0 ? 0 : skillIds[skillIds.length - 1] + 1);
+        for (int id : skillIds) {
+            set.set(id);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,135 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.model.AnalysisRecord;
+import com.ats.resumeanalyzer.repository.AnalysisRecordRepository;
+import com.ats.resumeanalyzer.util.IntPostings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Brings stored analyses up to date after a job's required skills change, without
+ * re-reading any resume. For a stored row the new matched set is
+ * {@code (matched - removed) + (resume skills & added)}; the second term comes from the
+ * skill index, so only the added skills' posting lists are consulted.
+ */
+@Service
+public class JobRescoringService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRescoringService.class);
+
+    @Autowired
+    private AnalysisRecordRepository analysisRecordRepository;
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private SkillRegistry skillRegistry;
+
+    @Autowired
+    private SkillSimilarity skillSimilarity;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ThreadPoolExecutor rescoringExecutor;
+
+    @Value("${rescoring.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Queues the delta for rows scored against {@code oldVersion}. Rows that miss it, e.g.
+     * because the queue was full, stay stale and are rescored when next read.
+     */
+    public void submit(Long jobId, Long oldVersion, int[] oldSkillIds, int[] newSkillIds, Long newVersion) {
+        if (oldSkillIds == null || newSkillIds == null) {
+            return;
+        }
+        if (skillSimilarity.isEnabled()) {
+            // Partial credit depends on the whole resume, not just the changed skills
+            return;
+        }
+        try {
+            rescoringExecutor.execute(() -> rescore(jobId, oldVersion, oldSkillIds, newSkillIds, newVersion));
+        } catch (RejectedExecutionException e) {
+            log.warn("Rescoring queue full; analyses of job {} will be recomputed on read", jobId);
+        }
+    }
+
+    void rescore(Long jobId, Long oldVersion, int[] oldSkillIds, int[] newSkillIds, Long newVersion) {
+        long start = System.currentTimeMillis();
+        int[] removed = IntPostings.difference(oldSkillIds, newSkillIds);
+        int[] added = IntPostings.difference(newSkillIds, oldSkillIds);
+
+        // Resumes holding each added skill, looked up once for the whole job
+        List<String> addedNames = skillRegistry.names(added);
+        int[][] holders = new int[added.length][];
+        for (int i = 0; i < added.length; i++) {
+            holders[i] = skillIndex.resumesWithSkill(addedNames.get(i));
+        }
+
+        long afterId = 0;
+        int updated = 0;
+        try {
+            while (true) {
+                long from = afterId;
+                List<AnalysisRecord> batch = transactionTemplate.execute(status -> {
+                    List<AnalysisRecord> records = analysisRecordRepository.findBatchForJobVersion(
+                            jobId, oldVersion, AnalysisService.SCORER_VERSION, from, PageRequest.of(0, batchSize));
+                    for (AnalysisRecord record : records) {
+                        apply(record, removed, added, holders, newSkillIds, newVersion);
+                    }
+                    return records;
+                });
+                if (batch.isEmpty()) {
+                    break;
+                }
+                updated += batch.size();
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (Exception e) {
+            log.warn("Rescoring job {} stopped after {} analyses", jobId, updated, e);
+            return;
+        }
+        log.info("Rescored {} analyses of job {} by delta in {} ms", updated, jobId, System.currentTimeMillis() - start);
+    }
+
+    private void apply(AnalysisRecord record, int[] removed, int[] added, int[][] holders,
+                       int[] newSkillIds, Long newVersion) {
+        int[] matched = IntPostings.difference(record.getMatchedSkillIds(), removed);
+
+        int resumeId = Math.toIntExact(record.getResumeId());
+        int[] gained = new int[added.length];
+        int n = 0;
+        for (int i = 0; i < added.length; i++) {
+            if (Arrays.binarySearch(holders[i], resumeId) >= 0) {
+                gained[n++] = added[i];
+            }
+        }
+        if (n > 0) {
+            matched = IntPostings.union(matched, Arrays.copyOf(gained, n));
+        }
+
+        double matchPercentage = analysisService.calculateMatchPercentage(matched.length, newSkillIds.length);
+        record.setMatchPercentage(Math.round(matchPercentage * 100.0) / 100.0);
+        record.setMatchedSkillIds(matched);
+        record.setMissingSkillIds(IntPostings.difference(newSkillIds, matched));
+        record.setJobVersion(newVersion);
+        record.setAnalyzedAt(LocalDateTime.now());
+    }
+}
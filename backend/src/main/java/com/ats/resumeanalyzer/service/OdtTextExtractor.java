@@ -0,0 +1,120 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.util.XmlStreams;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streams the body of an OpenDocument text file ({@code content.xml}) with StAX.
+ */
+@Component
+@Order(3)
+public class OdtTextExtractor implements ResumeTextExtractor {
+
+    private static final String MIME_TYPE = "application/vnd.oasis.opendocument.text";
+    private static final String OFFICE = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+    private static final String TEXT = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+
+    @Override
+    public String format() {
+        return "odt";
+    }
+
+    @Override
+    public boolean supports(byte[] header, Path file) throws IOException {
+        if (!ResumeTextExtractor.startsWith(header, "PK\u0003\u0004")) {
+            return false;
+        }
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry mimeType = zip.getEntry("mimetype");
+            if (mimeType == null || mimeType.getSize() > 128) {
+                return false;
+            }
+            try (InputStream in = zip.getInputStream(mimeType)) {
+                return MIME_TYPE.equals(new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim());
+            }
+        }
+    }
+
+    @Override
+    public void extract(Path file, Writer out, ExtractionBudget budget) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry("content.xml");
+            if (entry == null) {
+                throw new IOException("Not an OpenDocument text: missing content.xml");
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                write(XmlStreams.open(in), out);
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed OpenDocument text: " + e.getMessage(), e);
+        }
+    }
+
+    private void write(XMLStreamReader xml, Writer out) throws XMLStreamException, IOException {
+        try {
+            // Automatic styles and font declarations precede the body and carry no text
+            boolean inBody = false;
+            while (xml.hasNext()) {
+                switch (xml.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        if (OFFICE.equals(xml.getNamespaceURI()) && "body".equals(xml.getLocalName())) {
+                            inBody = true;
+                        } else if (inBody && TEXT.equals(xml.getNamespaceURI())) {
+                            switch (xml.getLocalName()) {
+                                case "tab" -> out.write('\t');
+                                case "line-break" -> out.write('\n');
+                                case "s" -> writeSpaces(xml.getAttributeValue(TEXT, "c"), out);
+                                default -> {
+                                }
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (OFFICE.equals(xml.getNamespaceURI()) && "body".equals(xml.getLocalName())) {
+                            inBody = false;
+                        } else if (inBody && TEXT.equals(xml.getNamespaceURI())
+                                && ("p".equals(xml.getLocalName()) || "h".equals(xml.getLocalName()))) {
+                            out.write('\n');
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (inBody) {
+                            out.write(xml.getTextCharacters(), xml.getTextStart(), xml.getTextLength());
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            xml.close();
+        }
+    }
+
+    // text:s stands for c spaces (one when absent); the count is capped to a line's worth
+    private static void writeSpaces(String count, Writer out) throws IOException {
+        int n = 1;
+        if (count != null) {
+            try {
+                n = Math.max(1, Math.min(Integer.parseInt(count), 80));
+            } catch (NumberFormatException e) {
+                n = 1;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            out.write(' ');
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.ats.resumeanalyzer.service;
+
+/**
+ * Text and skills extracted from one resume blob, tagged with the skill dictionary
+ * version that produced the skills and the extraction budget limit that cut the text
+ * short, if any.
+ */
+public record ParsedResume(String text, String skills, int dictionaryVersion, ExtractionBudget.Limit truncatedBy) {
+}
@@ -0,0 +1,227 @@
+package com.ats.resumeanalyzer.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PDF text extraction within an {@link ExtractionBudget}. Long documents are split into
+ * page ranges stripped in parallel, each from its own {@link PDDocument} since a loaded
+ * document is not safe to share between threads; the ranges are joined in page order.
+ * The memory and scratch budgets are split between the documents open at once.
+ */
+@Component
+@Order(1)
+public class PdfTextExtractor implements ResumeTextExtractor {
+
+    @Autowired
+    private ThreadPoolExecutor pdfExtractionExecutor;
+
+    private final int parallelMinPages;
+    private final int pagesPerChunk;
+    private final long maxScratchBytes;
+
+    public PdfTextExtractor(@Value("${pdf.parallel.min-pages:16}") int parallelMinPages,
+                            @Value("${pdf.parallel.pages-per-chunk:8}") int pagesPerChunk,
+                            @Value("${pdf.max-scratch-mb:256}") long maxScratchMb) {
+        this.parallelMinPages = parallelMinPages;
+        this.pagesPerChunk = Math.max(1, pagesPerChunk);
+        this.maxScratchBytes = maxScratchMb * 1024 * 1024;
+    }
+
+    @Override
+    public String format() {
+        return "pdf";
+    }
+
+    // Readers accept the signature anywhere in the first kilobyte
+    @Override
+    public boolean supports(byte[] header, Path file) {
+        String text = new String(header, StandardCharsets.ISO_8859_1);
+        return text.contains("%PDF-");
+    }
+
+    /**
+     * Writes the document's text up to the first limit reached. Pages past
+     * {@code extraction.max-pages} and a full scratch file end the text like any other limit.
+     */
+    @Override
+    public void extract(Path file, Writer out, ExtractionBudget budget) throws IOException {
+        int pages;
+        try (PDDocument document = load(file, budget, 1)) {
+            pages = Math.min(document.getNumberOfPages(), budget.maxPages());
+            if (document.getNumberOfPages() > pages) {
+                budget.trip(ExtractionBudget.Limit.PAGES);
+            }
+            if (pages < parallelMinPages) {
+                budget.addPages(strip(document, 1, pages, out, budget).pages());
+                return;
+            }
+        } catch (IOException e) {
+            if (!isMemoryExhausted(e)) {
+                throw e;
+            }
+            budget.trip(ExtractionBudget.Limit.MEMORY);
+            return;
+        }
+        // Closed first, so it does not hold memory the ranges' share of the budget leaves out
+        stripInParallel(file, pages, out, budget);
+    }
+
+    private void stripInParallel(Path file, int pages, Writer out, ExtractionBudget budget)
+            throws IOException {
+        // The calling thread strips the first range while the pool works through the rest
+        int ranges = (pages + pagesPerChunk - 1) / pagesPerChunk;
+        int shares = Math.min(ranges, 1 + pdfExtractionExecutor.getMaximumPoolSize());
+        List<Future<Chunk>> rest = new ArrayList<>();
+        for (int start = 1 + pagesPerChunk; start <= pages; start += pagesPerChunk) {
+            int from = start;
+            int to = Math.min(start + pagesPerChunk - 1, pages);
+            rest.add(pdfExtractionExecutor.submit(() -> stripRange(file, from, to, budget, shares)));
+        }
+        try {
+            Chunk first = stripRange(file, 1, Math.min(pagesPerChunk, pages), budget, shares);
+            out.write(first.text());
+            budget.addPages(first.range().pages());
+            if (!first.range().complete()) {
+                return;
+            }
+            for (Future<Chunk> future : rest) {
+                Chunk chunk = await(future, budget);
+                if (chunk == null) {
+                    return;
+                }
+                out.write(chunk.text());
+                budget.addPages(chunk.range().pages());
+                // Text after a range that stopped early would leave a gap
+                if (!chunk.range().complete()) {
+                    return;
+                }
+            }
+        } finally {
+            rest.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Chunk stripRange(Path file, int from, int to, ExtractionBudget budget, int shares)
+            throws IOException {
+        StringWriter text = new StringWriter();
+        try (PDDocument document = load(file, budget, shares)) {
+            Range range = strip(document, from, to, new BudgetedWriter(text, budget), budget);
+            return new Chunk(text.toString(), range);
+        } catch (IOException e) {
+            if (!isMemoryExhausted(e)) {
+                throw e;
+            }
+            budget.trip(ExtractionBudget.Limit.MEMORY);
+            return new Chunk(text.toString(), new Range(0, false));
+        }
+    }
+
+    /**
+     * Strips the page range into {@code out}, stopping early when a budget limit is reached.
+     */
+    private Range strip(PDDocument document, int from, int to, Writer out, ExtractionBudget budget)
+            throws IOException {
+        BudgetedStripper stripper = new BudgetedStripper(budget);
+        stripper.setStartPage(from);
+        stripper.setEndPage(to);
+        try {
+            stripper.writeText(document, out);
+            return new Range(stripper.pagesDone, true);
+        } catch (ExtractionBudget.Exceeded e) {
+            return new Range(stripper.pagesDone, false);
+        }
+    }
+
+    /**
+     * The range's result, or null when the time budget ran out waiting for it.
+     */
+    private Chunk await(Future<Chunk> future, ExtractionBudget budget) throws IOException {
+        try {
+            return future.get(budget.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            budget.trip(ExtractionBudget.Limit.TIME);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("PDF extraction interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Error extracting PDF text: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Reads through a small buffered window over the file instead of loading it into a
+     * byte[]. Decoded streams are held in memory up to this document's share of the budget,
+     * then spill to a scratch file capped at its share of {@code pdf.max-scratch-mb}.
+     */
+    private PDDocument load(Path file, ExtractionBudget budget, int shares) throws IOException {
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(
+                budget.maxMemoryBytes() / shares, maxScratchBytes / shares);
+        return Loader.loadPDF(new RandomAccessReadBufferedFile(file.toFile()), "", null, null, memory.streamCache);
+    }
+
+    // PDFBox reports a full scratch file as a plain IOException
+    private static boolean isMemoryExhausted(IOException e) {
+        return e.getMessage() != null && e.getMessage().contains("scratch file memory exceeded");
+    }
+
+    private record Range(int pages, boolean complete) {
+    }
+
+    private record Chunk(String text, Range range) {
+    }
+
+    /**
+     * Checks the deadline and interruption between pages, so a cancelled range stops early.
+     */
+    private static class BudgetedStripper extends PDFTextStripper {
+
+        private final ExtractionBudget budget;
+        private int pagesDone;
+
+        BudgetedStripper(ExtractionBudget budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("PDF extraction cancelled");
+            }
+            budget.checkTime();
+            super.startPage(page);
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            super.endPage(page);
+            pagesDone++;
+        }
+    }
+}
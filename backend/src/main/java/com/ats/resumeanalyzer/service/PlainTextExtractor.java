@@ -0,0 +1,56 @@
+package com.ats.resumeanalyzer.service;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Copies UTF-8 text files through, replacing malformed bytes. Tried last, and only for
+ * files whose leading bytes hold no control characters other than whitespace.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class PlainTextExtractor implements ResumeTextExtractor {
+
+    @Override
+    public String format() {
+        return "text";
+    }
+
+    @Override
+    public boolean supports(byte[] header, Path file) {
+        if (header.length == 0) {
+            return false;
+        }
+        for (byte b : header) {
+            if ((b >= 0 && b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f') || b == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void extract(Path file, Writer out, ExtractionBudget budget) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try (Reader in = new InputStreamReader(Files.newInputStream(file), decoder)) {
+            char[] buffer = new char[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.model.Resume;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that mirrors resume writes into the in-memory indexes once the
+ * surrounding transaction has committed, so rolled-back saves never become searchable.
+ */
+@Component
+public class ResumeIndexListener {
+
+    @Autowired
+    @Lazy
+    private SkillIndex skillIndex;
+
+    @Autowired
+    @Lazy
+    private Bm25Index bm25Index;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Resume resume) {
+        Long resumeId = resume.getId();
+        String skills = resume.getSkills();
+        String text = resume.getExtractedText();
+        afterCommit(() -> {
+            skillIndex.index(resumeId, skills);
+            bm25Index.index(resumeId, text);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Resume resume) {
+        Long resumeId = resume.getId();
+        afterCommit(() -> {
+            skillIndex.remove(resumeId);
+            bm25Index.remove(resumeId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.model.IngestionStatus;
+import com.ats.resumeanalyzer.model.Resume;
+import com.ats.resumeanalyzer.model.User;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.service.ResumeStorageService.StoredFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Service
+public class ResumeIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeIngestionService.class);
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Autowired
+    private SkillRegistry skillRegistry;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ThreadPoolExecutor ingestionExecutor;
+
+    @Value("${ingestion.status-retention-minutes:60}")
+    private long statusRetentionMinutes;
+
+    private final Map<String, IngestionStatus> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * Queues a stored upload for parsing. Throws {@link RejectedExecutionException} when the
+     * worker queue is full; the stored blob is left in place.
+     */
+    public IngestionStatus submit(User user, StoredFile storedFile, String originalFileName) {
+        purgeExpired();
+
+        IngestionStatus status = new IngestionStatus();
+        status.setId(UUID.randomUUID().toString());
+        status.setFileName(originalFileName);
+        status.setUserId(user.getId());
+        status.setState(IngestionStatus.State.QUEUED);
+        status.setSubmittedAt(LocalDateTime.now());
+        status.setUpdatedAt(status.getSubmittedAt());
+
+        statuses.put(status.getId(), status);
+        try {
+            ingestionExecutor.execute(() -> ingest(status, user, storedFile, originalFileName));
+        } catch (RejectedExecutionException e) {
+            statuses.remove(status.getId());
+            throw e;
+        }
+        return status;
+    }
+
+    public Optional<IngestionStatus> getStatus(String id) {
+        return Optional.ofNullable(statuses.get(id));
+    }
+
+    private void ingest(IngestionStatus status, User user, StoredFile storedFile, String originalFileName) {
+        try {
+            update(status, IngestionStatus.State.PARSING);
+            ParsedResume parsed = resumeParserService.parse(storedFile, originalFileName);
+
+            update(status, IngestionStatus.State.SAVING);
+            Resume resume = new Resume();
+            resume.setFileName(originalFileName);
+            resume.setFilePath(storedFile.path().toString());
+            resume.setContentHash(storedFile.contentHash());
+            resume.setExtractedText(parsed.text());
+            resume.setSkills(parsed.skills());
+            resume.setSkillIds(skillRegistry.intern(parsed.skills()));
+            resume.setTruncatedBy(parsed.truncatedBy() != null ? parsed.truncatedBy().name() : null);
+            resume.setUploadedAt(LocalDateTime.now());
+            resume.setUser(user);
+            resumeRepository.save(resume);
+
+            status.setResumeId(resume.getId());
+            if (parsed.truncatedBy() != null) {
+                status.setTruncatedBy(parsed.truncatedBy().name());
+            }
+            update(status, IngestionStatus.State.COMPLETED);
+        } catch (Exception e) {
+            log.warn("Ingestion {} of {} failed", status.getId(), originalFileName, e);
+            status.setError(e.getMessage());
+            update(status, IngestionStatus.State.FAILED);
+        }
+    }
+
+    private void update(IngestionStatus status, IngestionStatus.State state) {
+        status.setState(state);
+        status.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(statusRetentionMinutes);
+        statuses.values().removeIf(status -> status.isFinished() && status.getUpdatedAt().isBefore(cutoff));
+    }
+}
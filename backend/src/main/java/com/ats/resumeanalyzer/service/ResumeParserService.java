@@ -1,78 +1,212 @@
 package com.ats.resumeanalyzer.service;
 
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.service.ResumeStorageService.StoredFile;
+import com.ats.resumeanalyzer.util.BoundedCache;
+import com.ats.resumeanalyzer.util.SkillMatcher;
+import com.ats.resumeanalyzer.util.SkillScanningWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class ResumeParserService {
 
-    public String extractText(MultipartFile file) throws Exception {
-        String fileName = file.getOriginalFilename();
+    public static final int SNIFF_BYTES = 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeParserService.class);
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    // In @Order order, plain text last
+    @Autowired
+    private List<ResumeTextExtractor> extractors;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BoundedCache<String, ParsedResume> parseCache;
+    private final AtomicLong storedParseHits = new AtomicLong();
+    private final AtomicLong extractions = new AtomicLong();
+    private final Map<ExtractionBudget.Limit, AtomicLong> truncations = new EnumMap<>(ExtractionBudget.Limit.class);
 
-        if (fileName == null || !fileName.contains(".")) {
-            throw new IllegalArgumentException("Invalid file name");
+    private final int maxPages;
+    private final int maxChars;
+    private final long maxMemoryBytes;
+    private final long timeoutMillis;
+    private final Semaphore extractionPermits;
+
+    public ResumeParserService(@Value("${parse-cache.max-entries:500}") int maxEntries,
+                               @Value("${parse-cache.ttl-minutes:1440}") long ttlMinutes,
+                               @Value("${extraction.max-pages:500}") int maxPages,
+                               @Value("${extraction.max-chars:2000000}") int maxChars,
+                               @Value("${extraction.max-memory-mb:64}") long maxMemoryMb,
+                               @Value("${extraction.timeout-seconds:30}") long timeoutSeconds,
+                               @Value("${extraction.max-concurrent:0}") int maxConcurrent) {
+        this.parseCache = new BoundedCache<>(maxEntries, TimeUnit.MINUTES.toMillis(ttlMinutes));
+        this.maxPages = maxPages;
+        this.maxChars = maxChars;
+        this.maxMemoryBytes = maxMemoryMb * 1024 * 1024;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.extractionPermits = new Semaphore(maxConcurrent > 0
+                ? maxConcurrent
+                : Runtime.getRuntime().availableProcessors() * 2);
+        for (ExtractionBudget.Limit limit : ExtractionBudget.Limit.values()) {
+            truncations.put(limit, new AtomicLong());
+        }
+    }
+
+    /**
+     * Parses a stored blob, reusing an earlier extraction of the same content when one is
+     * cached in memory or already saved on another resume. Only the skills are recomputed
+     * when the dictionary has changed since. Text cut short by the time or memory budget
+     * depends on how busy the node was, so it is neither cached nor reused.
+     */
+    public ParsedResume parse(StoredFile file, String fileName) throws Exception {
+        int dictionaryVersion = skillDictionary.getVersion();
+        ParsedResume parsed = parseCache.get(file.contentHash());
+        if (parsed == null) {
+            parsed = resumeRepository.findReusableByContentHash(file.contentHash(), PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .map(resume -> new ParsedResume(resume.getExtractedText(), null, -1,
+                            resume.getTruncatedBy() != null ? ExtractionBudget.Limit.valueOf(resume.getTruncatedBy()) : null))
+                    .orElse(null);
+            if (parsed != null) {
+                storedParseHits.incrementAndGet();
+            }
+        }
+        if (parsed == null) {
+            // Skills are scanned from the extractor's output as it is written, in the same pass
+            SkillMatcher matcher = skillDictionary.getMatcher();
+            SkillMatcher.Scan scan = matcher.newScan();
+            ExtractedText extracted = extractText(file.path(), fileName, scan);
+            parsed = new ParsedResume(extracted.text(), toJson(matcher.skillNames(scan.finish())), dictionaryVersion,
+                    extracted.truncatedBy());
+        } else if (parsed.dictionaryVersion() != dictionaryVersion) {
+            parsed = new ParsedResume(parsed.text(), extractSkills(parsed.text()), dictionaryVersion,
+                    parsed.truncatedBy());
+        } else {
+            return parsed;
         }
+        if (parsed.truncatedBy() == null || parsed.truncatedBy().isDeterministic()) {
+            parseCache.put(file.contentHash(), parsed);
+        }
+        return parsed;
+    }
 
-        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+    public Map<String, Object> getParseCacheStats() {
+        long hits = parseCache.hitCount();
+        long storedHits = storedParseHits.get();
+        long lookups = hits + parseCache.missCount();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", parseCache.size());
+        stats.put("lookups", lookups);
+        stats.put("memoryHits", hits);
+        stats.put("storedHits", storedHits);
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) (hits + storedHits) / lookups);
+        return stats;
+    }
 
-        return switch (extension) {
-            case "pdf" -> extractTextFromPDF(file);
-            case "docx" -> extractTextFromDOCX(file);
-            default -> throw new UnsupportedOperationException(
-                    "Unsupported file format. Please upload PDF or DOCX only."
-            );
-        };
+    public Map<String, Object> getExtractionStats() {
+        Map<String, Object> truncated = new LinkedHashMap<>();
+        truncations.forEach((limit, count) -> truncated.put(limit.name(), count.get()));
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("extractions", extractions.get());
+        stats.put("truncatedBy", truncated);
+        return stats;
     }
 
-    // ✅ FIXED: PDFBox 3.x compatible
-    private String extractTextFromPDF(MultipartFile file) throws Exception {
-        byte[] pdfBytes = file.getBytes(); // ✔ correct way
+    /**
+     * Extracts text within the configured {@code extraction.*} budget, with the extractor
+     * chosen by the file's leading bytes. A document that runs out of budget yields the
+     * text read so far rather than an error.
+     */
+    public ExtractedText extractText(Path file, String fileName) throws Exception {
+        return extractText(file, fileName, null);
+    }
 
-        try (PDDocument document = Loader.loadPDF(pdfBytes)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+    /**
+     * Extraction is CPU-bound, so the number running at once is capped by
+     * {@code extraction.max-concurrent} whatever kind of thread calls it. With virtual request
+     * threads there is no thread-pool limit to do that.
+     */
+    private ExtractedText extractText(Path file, String fileName, SkillMatcher.Scan scan) throws Exception {
+        extractionPermits.acquire();
+        try {
+            return extractWithBudget(file, fileName, scan);
+        } finally {
+            extractionPermits.release();
         }
     }
 
-    private String extractTextFromDOCX(MultipartFile file) throws Exception {
-        try (XWPFDocument document = new XWPFDocument(file.getInputStream());
-             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+    private ExtractedText extractWithBudget(Path file, String fileName, SkillMatcher.Scan scan) throws Exception {
+        ResumeTextExtractor extractor = extractorFor(file);
+        ExtractionBudget budget = new ExtractionBudget(maxPages, maxChars, maxMemoryBytes, timeoutMillis);
+        StringWriter text = new StringWriter();
+        // The budget sits in front of the scan, so skills come only from text that is kept
+        Writer out = scan == null ? text : new SkillScanningWriter(text, scan);
+        try {
+            extractor.extract(file, new BudgetedWriter(out, budget), budget);
+        } catch (ExtractionBudget.Exceeded e) {
+            // Keep the text written before the budget ran out
+        }
+        ExtractedText extracted = budget.result(text.toString());
 
-            return extractor.getText();
+        extractions.incrementAndGet();
+        if (extracted.isTruncated()) {
+            truncations.get(extracted.truncatedBy()).incrementAndGet();
+            log.info("Extraction of {} ({}) stopped by the {} budget after {} pages, {} chars, {} ms",
+                    fileName, extractor.format(), extracted.truncatedBy(), extracted.pages(),
+                    extracted.text().length(), extracted.elapsedMillis());
         }
+        return extracted;
     }
 
-    public String extractSkills(String text) {
-        String[] skillKeywords = {
-                "Java", "Python", "JavaScript", "React", "Angular", "Vue", "Node.js",
-                "Spring Boot", "Django", "Flask", "Express", "SQL", "MySQL", "PostgreSQL",
-                "MongoDB", "AWS", "Azure", "Docker", "Kubernetes", "Git", "GitHub",
-                "HTML", "CSS", "Bootstrap", "TypeScript", "REST API", "GraphQL",
-                "Machine Learning", "Data Science", "TensorFlow", "PyTorch",
-                "C++", "C#", ".NET", "PHP", "Ruby", "Go", "Rust",
-                "Agile", "Scrum", "DevOps", "CI/CD", "Jenkins", "Jira"
-        };
-
-        StringBuilder foundSkills = new StringBuilder("[");
-        boolean first = true;
-        String lowerText = text.toLowerCase();
-
-        for (String skill : skillKeywords) {
-            if (lowerText.contains(skill.toLowerCase())) {
-                if (!first) {
-                    foundSkills.append(",");
-                }
-                foundSkills.append("\"").append(skill).append("\"");
-                first = false;
+    private ResumeTextExtractor extractorFor(Path file) throws IOException {
+        byte[] header;
+        try (InputStream in = Files.newInputStream(file)) {
+            header = in.readNBytes(SNIFF_BYTES);
+        }
+        for (ResumeTextExtractor extractor : extractors) {
+            if (extractor.supports(header, file)) {
+                return extractor;
             }
         }
+        throw new UnsupportedOperationException(
+                "Unsupported file format. Please upload PDF, DOCX, ODT, RTF or plain text."
+        );
+    }
+
+    public String extractSkills(String text) {
+        return toJson(skillDictionary.getMatcher().findSkills(text));
+    }
 
-        foundSkills.append("]");
-        return foundSkills.toString();
+    private String toJson(List<String> skills) {
+        try {
+            return objectMapper.writeValueAsString(skills);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error serializing skills: " + e.getMessage(), e);
+        }
     }
 }
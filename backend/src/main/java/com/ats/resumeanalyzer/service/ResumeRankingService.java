@@ -0,0 +1,111 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.dto.RankedResume;
+import com.ats.resumeanalyzer.dto.RankingResponse;
+import com.ats.resumeanalyzer.model.Job;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.repository.ResumeSkillsView;
+import com.ats.resumeanalyzer.util.TopK;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class ResumeRankingService {
+
+    private static final int SCORING_PAGE = 1000;
+    private static final Comparator<RankedResume> BEST_FIRST = Comparator
+            .comparing(RankedResume::getMatchPercentage, Comparator.reverseOrder())
+            .thenComparing(RankedResume::getResumeId);
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private SkillRegistry skillRegistry;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ForkJoinPool scoringPool;
+
+    /**
+     * Scores the given resumes (or all of them) against one job and returns a page of the
+     * ranking. Candidates are read and scored {@value #SCORING_PAGE} at a time, so memory
+     * holds one page of projections plus the best (page + 1) * size results.
+     */
+    public RankingResponse rank(Job job, List<Long> resumeIds, int page, int size) {
+        JobProfile profile = analysisService.buildProfile(job);
+        int k = (int) Math.min(((long) page + 1) * size, Integer.MAX_VALUE);
+        TopK<RankedResume> best = TopK.create(k, BEST_FIRST);
+        int candidates = 0;
+
+        if (resumeIds == null || resumeIds.isEmpty()) {
+            long afterId = 0;
+            List<ResumeSkillsView> batch;
+            do {
+                batch = resumeRepository.findSkillsByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, SCORING_PAGE));
+                scoreInto(best, k, batch, profile);
+                candidates += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == SCORING_PAGE);
+        } else {
+            List<Long> ids = resumeIds.stream().distinct().toList();
+            for (int from = 0; from < ids.size(); from += SCORING_PAGE) {
+                List<ResumeSkillsView> batch = resumeRepository.findByIdIn(
+                        ids.subList(from, Math.min(from + SCORING_PAGE, ids.size())));
+                scoreInto(best, k, batch, profile);
+                candidates += batch.size();
+            }
+        }
+
+        List<RankedResume> top = best.toSortedList();
+        int from = (int) Math.min((long) page * size, top.size());
+        return new RankingResponse(
+                job.getId(),
+                job.getTitle(),
+                page,
+                size,
+                candidates,
+                top.subList(from, top.size()));
+    }
+
+    // Scores one page on all cores, then merges its best k into the running ranking
+    private void scoreInto(TopK<RankedResume> best, int k, List<ResumeSkillsView> batch, JobProfile profile) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<RankedResume> pageBest;
+        try {
+            pageBest = scoringPool.submit(() -> batch.parallelStream()
+                    .map(candidate -> score(candidate, profile))
+                    .collect(TopK.collector(k, BEST_FIRST))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Ranking interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error ranking resumes: " + e.getCause().getMessage(), e.getCause());
+        }
+        pageBest.forEach(best::offer);
+    }
+
+    private RankedResume score(ResumeSkillsView candidate, JobProfile profile) {
+        int[] skillIds = candidate.getSkillIds() != null
+                ? candidate.getSkillIds()
+                : skillRegistry.lookup(candidate.getSkills());
+        SkillScore score = analysisService.scoreSkills(profile, skillIds);
+        return new RankedResume(
+                candidate.getId(),
+                candidate.getFileName(),
+                score.matchPercentage(),
+                skillRegistry.names(score.matched()));
+    }
+}
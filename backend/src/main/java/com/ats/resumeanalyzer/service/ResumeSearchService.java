@@ -0,0 +1,155 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.dto.ResumeSearchHit;
+import com.ats.resumeanalyzer.dto.ResumeSearchResponse;
+import com.ats.resumeanalyzer.config.SearchSchemaInitializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keyword and phrase search over extracted resume text, backed by the generated
+ * {@code search_vector} column and its GIN index (see {@code SearchSchemaInitializer}).
+ * Queries use web-search syntax: {@code "kafka streams" payments -php}.
+ *
+ * Ranking reads every candidate's stored vector, so at most {@code search.max-candidates}
+ * matches are ranked, the newest first; the response's {@code candidatesCapped} says when
+ * older matches were left out. Pages continue from a (rank, id) cursor instead of an
+ * offset, so later pages don't re-rank and skip the earlier ones.
+ */
+@Service
+public class ResumeSearchService {
+
+    // The GIN index finds the candidates; ts_rank then reads their vectors, and ts_headline
+    // re-reads the text, so it runs for the page alone
+    private static final String SEARCH = """
+            select r.id, r.file_name, r.uploaded_at, hits.rank, hits.capped,
+                   ts_headline('english', substr(r.extracted_text, 1, :indexedChars),
+                               websearch_to_tsquery('english', :query),
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=3, MaxWords=20, MinWords=5') as highlight
+            from (
+                select id, rank, capped from (
+                    select c.id, ts_rank(c.search_vector, q) as rank,
+                           row_number() over (order by c.id desc) as position,
+                           count(*) over () > :maxCandidates as capped
+                    from (
+                        select r.id, r.search_vector
+                        from resumes r, websearch_to_tsquery('english', :query) q
+                        where r.search_vector @@ q
+                        %s
+                        order by r.id desc
+                        limit :maxCandidates + 1
+                    ) c, websearch_to_tsquery('english', :query) q
+                ) ranked
+                where position <= :maxCandidates
+                %s
+                order by rank desc, id desc
+                limit :limit
+            ) hits
+            join resumes r on r.id = hits.id
+            order by hits.rank desc, r.id desc
+            """;
+
+    // ts_rank returns a real; the cursor's rank is compared at that precision
+    private static final String AFTER_CURSOR = """
+                and (rank, id) < (cast(:afterRank as real), :afterId)
+            """;
+
+    // Every requested skill must appear in the resume's skills JSON, compared case-insensitively
+    private static final String SKILL_FILTER = """
+                and (select count(distinct lower(s)) from jsonb_array_elements_text(r.skills::jsonb) s
+                     where lower(s) in (:skills)) = :skillCount
+            """;
+
+    private static final RowMapper<ResumeSearchHit> HIT = (rs, rowNum) -> new ResumeSearchHit(
+            rs.getLong("id"),
+            rs.getString("file_name"),
+            rs.getTimestamp("uploaded_at").toLocalDateTime(),
+            rs.getDouble("rank"),
+            rs.getString("highlight"));
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${search.max-candidates:5000}")
+    private int maxCandidates;
+
+    /**
+     * One page of matches, best first. Throws {@link IllegalArgumentException} for a cursor
+     * this service did not issue.
+     */
+    public ResumeSearchResponse search(String query, List<String> skills, String cursor, int size) {
+        Set<String> normalizedSkills = new TreeSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                if (skill != null && !skill.isBlank()) {
+                    normalizedSkills.add(skill.trim().toLowerCase());
+                }
+            }
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("indexedChars", SearchSchemaInitializer.INDEXED_CHARS)
+                .addValue("maxCandidates", maxCandidates)
+                .addValue("limit", size + 1);
+        String skillFilter = "";
+        if (!normalizedSkills.isEmpty()) {
+            skillFilter = SKILL_FILTER;
+            params.addValue("skills", normalizedSkills);
+            params.addValue("skillCount", normalizedSkills.size());
+        }
+        String afterCursor = "";
+        if (cursor != null) {
+            Cursor after = decode(cursor);
+            afterCursor = AFTER_CURSOR;
+            params.addValue("afterRank", after.rank());
+            params.addValue("afterId", after.id());
+        }
+
+        // One extra row tells whether another page exists without a count(*) over all matches,
+        // and one extra candidate whether the cap left any out
+        AtomicBoolean capped = new AtomicBoolean();
+        List<ResumeSearchHit> hits = jdbcTemplate.query(SEARCH.formatted(skillFilter, afterCursor), params,
+                (rs, rowNum) -> {
+                    if (rs.getBoolean("capped")) {
+                        capped.set(true);
+                    }
+                    return HIT.mapRow(rs, rowNum);
+                });
+        boolean hasMore = hits.size() > size;
+        if (hasMore) {
+            hits = hits.subList(0, size);
+        }
+        String nextCursor = hasMore ? encode(hits.get(size - 1)) : null;
+        return new ResumeSearchResponse(query, size, hasMore, nextCursor, capped.get(), hits);
+    }
+
+    private static String encode(ResumeSearchHit last) {
+        String raw = (float) last.getRank().doubleValue() + "," + last.getResumeId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new Cursor(Float.parseFloat(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private record Cursor(float rank, long id) {
+    }
+}
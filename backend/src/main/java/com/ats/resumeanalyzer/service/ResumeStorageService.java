@@ -0,0 +1,97 @@
+package com.ats.resumeanalyzer.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed blob store for uploaded resumes. Each file is hashed while it is
+ * streamed to disk and stored as {@code <sha256>.<ext>}, so identical uploads share one blob.
+ */
+@Service
+public class ResumeStorageService {
+
+    private final Path uploadDir;
+    private final AtomicLong storedBlobs = new AtomicLong();
+    private final AtomicLong deduplicatedBlobs = new AtomicLong();
+
+    public ResumeStorageService(@Value("${uploads.resume-dir:uploads/resumes/}") String uploadDir) throws IOException {
+        this.uploadDir = Paths.get(uploadDir);
+        Files.createDirectories(this.uploadDir);
+    }
+
+    public StoredFile store(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return store(in, file.getOriginalFilename());
+        }
+    }
+
+    public StoredFile store(InputStream content, String originalFileName) throws IOException {
+        Path temp = Files.createTempFile(uploadDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            try (DigestInputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            Path target = uploadDir.resolve(contentHash + extensionOf(originalFileName));
+            if (Files.exists(target)) {
+                deduplicatedBlobs.incrementAndGet();
+                return new StoredFile(target, contentHash, true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Same content stored concurrently by another upload
+                deduplicatedBlobs.incrementAndGet();
+                return new StoredFile(target, contentHash, true);
+            }
+            storedBlobs.incrementAndGet();
+            return new StoredFile(target, contentHash, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public long getStoredBlobs() {
+        return storedBlobs.get();
+    }
+
+    public long getDeduplicatedBlobs() {
+        return deduplicatedBlobs.get();
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            return "";
+        }
+        return fileName.substring(fileName.lastIndexOf('.')).toLowerCase();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record StoredFile(Path path, String contentHash, boolean duplicate) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.ats.resumeanalyzer.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Extracts the plain text of one document format. Implementations are Spring beans picked
+ * by {@link ResumeParserService} from the file's leading bytes, never its name, and tried
+ * in {@link org.springframework.core.annotation.Order} order.
+ */
+public interface ResumeTextExtractor {
+
+    /**
+     * Short format name used in logs and stats, e.g. "pdf".
+     */
+    String format();
+
+    /**
+     * Whether this extractor reads the file, judged from up to the first
+     * {@link ResumeParserService#SNIFF_BYTES} bytes ({@code header}). Container formats
+     * may look inside the file when the header alone is ambiguous.
+     */
+    boolean supports(byte[] header, Path file) throws IOException;
+
+    /**
+     * Streams the document's text into {@code out}. Writes throw
+     * {@link ExtractionBudget.Exceeded} once the budget is spent; implementations let it
+     * propagate and the caller keeps what was written.
+     */
+    void extract(Path file, Writer out, ExtractionBudget budget) throws IOException;
+
+    static boolean startsWith(byte[] header, String magic) {
+        byte[] bytes = magic.getBytes(StandardCharsets.ISO_8859_1);
+        if (header.length < bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (header[i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
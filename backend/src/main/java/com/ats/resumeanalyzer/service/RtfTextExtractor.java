@@ -0,0 +1,206 @@
+package com.ats.resumeanalyzer.service;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Single-pass RTF tokenizer that keeps the document text and drops formatting, tables of
+ * fonts, colours and styles, embedded pictures and objects. Unicode escapes are honoured;
+ * other bytes are read as Windows-1252, the default RTF code page.
+ */
+@Component
+@Order(4)
+public class RtfTextExtractor implements ResumeTextExtractor {
+
+    private static final Set<String> SKIPPED_DESTINATIONS = Set.of(
+            "fonttbl", "colortbl", "stylesheet", "info", "pict", "object", "fldinst", "themedata",
+            "colorschememapping", "datastore", "latentstyles", "listtable", "listoverridetable",
+            "rsidtbl", "generator", "xmlnstbl", "filetbl", "revtbl", "header", "headerl", "headerr",
+            "headerf", "footer", "footerl", "footerr", "footerf", "mmathPr");
+
+    private static final char[] CP1252 = new String(allBytes(), Charset.forName("windows-1252")).toCharArray();
+
+    @Override
+    public String format() {
+        return "rtf";
+    }
+
+    @Override
+    public boolean supports(byte[] header, Path file) {
+        return ResumeTextExtractor.startsWith(header, "{\\rtf");
+    }
+
+    @Override
+    public void extract(Path file, Writer out, ExtractionBudget budget) throws IOException {
+        try (PushbackInputStream in = new PushbackInputStream(new BufferedInputStream(Files.newInputStream(file)), 1)) {
+            new Tokenizer(in, out).run();
+        }
+    }
+
+    private static byte[] allBytes() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static final class Tokenizer {
+
+        private final PushbackInputStream in;
+        private final Writer out;
+        private final char[] buffer = new char[4096];
+        private int buffered;
+
+        // Per group: whether its text is dropped and how many fallback chars follow a unicode escape
+        private final Deque<int[]> groups = new ArrayDeque<>();
+        private boolean skipping;
+        private int unicodeFallback = 1;
+        private int pendingFallback;
+
+        Tokenizer(PushbackInputStream in, Writer out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        void run() throws IOException {
+            int c;
+            while ((c = in.read()) != -1) {
+                switch (c) {
+                    case '{' -> groups.push(new int[] {skipping ? 1 : 0, unicodeFallback});
+                    case '}' -> {
+                        if (!groups.isEmpty()) {
+                            int[] outer = groups.pop();
+                            skipping = outer[0] == 1;
+                            unicodeFallback = outer[1];
+                        }
+                    }
+                    case '\\' -> control();
+                    case '\r', '\n' -> {
+                    }
+                    default -> text(CP1252[c]);
+                }
+            }
+            flush();
+        }
+
+        private void control() throws IOException {
+            int c = in.read();
+            if (c == -1) {
+                return;
+            }
+            if (isLetter(c)) {
+                word(c);
+                return;
+            }
+            switch (c) {
+                case '\'' -> text(CP1252[(hex(in.read()) << 4 | hex(in.read())) & 0xFF]);
+                case '*' -> skipping = true;
+                case '\\', '{', '}' -> text((char) c);
+                case '~' -> text(' ');
+                case '_' -> text('-');
+                case '\r', '\n' -> emit('\n');
+                default -> {
+                }
+            }
+        }
+
+        private void word(int first) throws IOException {
+            StringBuilder name = new StringBuilder();
+            int c = first;
+            while (c != -1 && isLetter(c) && name.length() < 32) {
+                name.append((char) c);
+                c = in.read();
+            }
+            boolean negative = c == '-';
+            if (negative) {
+                c = in.read();
+            }
+            boolean hasParam = false;
+            int param = 0;
+            while (c >= '0' && c <= '9') {
+                hasParam = true;
+                param = param * 10 + (c - '0');
+                c = in.read();
+            }
+            if (negative) {
+                param = -param;
+            }
+            // A single space ends the control word and belongs to it
+            if (c != ' ' && c != -1) {
+                in.unread(c);
+            }
+
+            String word = name.toString();
+            if (SKIPPED_DESTINATIONS.contains(word)) {
+                skipping = true;
+                return;
+            }
+            switch (word) {
+                case "par", "line", "sect", "row", "page" -> emit('\n');
+                case "tab", "cell" -> emit('\t');
+                case "uc" -> unicodeFallback = hasParam ? Math.max(0, param) : 1;
+                case "u" -> {
+                    if (hasParam) {
+                        emit((char) (param < 0 ? param + 65536 : param));
+                        pendingFallback = unicodeFallback;
+                    }
+                }
+                case "emdash" -> emit('\u2014');
+                case "endash" -> emit('\u2013');
+                case "bullet" -> emit('\u2022');
+                case "lquote" -> emit('\u2018');
+                case "rquote" -> emit('\u2019');
+                case "ldblquote" -> emit('\u201C');
+                case "rdblquote" -> emit('\u201D');
+                default -> {
+                }
+            }
+        }
+
+        // Plain characters stand in for the preceding unicode escape in older readers; drop them
+        private void text(char c) throws IOException {
+            if (pendingFallback > 0) {
+                pendingFallback--;
+                return;
+            }
+            emit(c);
+        }
+
+        private void emit(char c) throws IOException {
+            if (skipping) {
+                return;
+            }
+            if (buffered == buffer.length) {
+                flush();
+            }
+            buffer[buffered++] = c;
+        }
+
+        private void flush() throws IOException {
+            if (buffered > 0) {
+                out.write(buffer, 0, buffered);
+                buffered = 0;
+            }
+        }
+
+        private static boolean isLetter(int c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private static int hex(int c) {
+            return Character.digit(c, 16) & 0xF;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.util.SkillMatcher;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class SkillDictionary {
+
+    @Value("${skills.dictionary:classpath:skills/skills.txt}")
+    private Resource dictionary;
+
+    // Swapped as a whole, so scans in flight keep using the automaton they started with
+    private volatile SkillMatcher matcher = SkillMatcher.compile(Map.of());
+    private volatile Map<String, String> canonicalByTerm = Map.of();
+    private volatile int version;
+
+    @PostConstruct
+    public void load() throws IOException {
+        replaceTerms(readTerms(dictionary));
+    }
+
+    public SkillMatcher getMatcher() {
+        return matcher;
+    }
+
+    /**
+     * The canonical skill for a dictionary term or synonym ("k8s" -> "Kubernetes"), or the
+     * input unchanged when the dictionary doesn't know it.
+     */
+    public String canonicalName(String term) {
+        String canonical = canonicalByTerm.get(term.trim().toLowerCase());
+        return canonical != null ? canonical : term;
+    }
+
+    /**
+     * Bumped after every swap. Read it before {@link #getMatcher()}: a result tagged with a
+     * version was then produced by that dictionary or a newer one.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Compiles the new dictionary off to the side and publishes it in one write.
+     */
+    public synchronized void replaceTerms(Map<String, String> termToSkill) {
+        Map<String, String> canonical = new HashMap<>();
+        termToSkill.forEach((term, skill) -> canonical.putIfAbsent(term.trim().toLowerCase(), skill));
+        matcher = SkillMatcher.compile(termToSkill);
+        canonicalByTerm = canonical;
+        version++;
+    }
+
+    private Map<String, String> readTerms(Resource resource) throws IOException {
+        Map<String, String> terms = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] names = line.split("\\|");
+                String skill = names[0].trim();
+                for (String name : names) {
+                    terms.putIfAbsent(name.trim(), skill);
+                }
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,312 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.dto.CandidateMatch;
+import com.ats.resumeanalyzer.repository.ResumeRepository;
+import com.ats.resumeanalyzer.repository.ResumeSkillsView;
+import com.ats.resumeanalyzer.util.IntPostings;
+import com.ats.resumeanalyzer.util.TopK;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from normalized skill to the sorted ids of the resumes that
+ * list it. Kept current by {@link ResumeIndexListener} and rebuilt from the database on startup.
+ *
+ * Like {@link Bm25Index}, a rebuild fills fresh {@link SkillPostings} from keyset pages while
+ * the old ones keep serving, then swaps them in and replays the saves and removals that
+ * arrived meanwhile.
+ */
+@Service
+public class SkillIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillIndex.class);
+    private static final String[] NO_SKILLS = new String[0];
+    private static final IntPostings NO_RESUMES = new IntPostings();
+    private static final int REBUILD_PAGE = 500;
+    private static final Comparator<CandidateMatch> BEST_MATCH_FIRST = Comparator
+            .comparing(CandidateMatch::getMatchedSkills, Comparator.reverseOrder())
+            .thenComparing(CandidateMatch::getResumeId);
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private SkillPostings current = new SkillPostings();
+    // Skills saved (null when removed) while a rebuild runs, replayed onto the new postings
+    private Map<Integer, String[]> pending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                return; // another rebuild is running
+            }
+            pending = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        SkillPostings fresh = null;
+        int indexed = 0;
+        try {
+            fresh = load();
+            indexed = fresh.allResumes.size();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (fresh != null) {
+                    for (Map.Entry<Integer, String[]> update : pending.entrySet()) {
+                        fresh.remove(update.getKey());
+                        if (update.getValue() != null) {
+                            fresh.add(update.getKey(), update.getValue());
+                        }
+                    }
+                    current = fresh;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Indexed skills of {} resumes in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    public void index(Long resumeId, String skillsJson) {
+        String[] skills = parseSkills(skillsJson);
+        int docId = toDocId(resumeId);
+        lock.writeLock().lock();
+        try {
+            current.remove(docId);
+            current.add(docId, skills);
+            if (pending != null) {
+                pending.put(docId, skills);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long resumeId) {
+        int docId = toDocId(resumeId);
+        lock.writeLock().lock();
+        try {
+            current.remove(docId);
+            if (pending != null) {
+                pending.put(docId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resumes that have every skill in {@code all}, at least one in {@code any} (if given)
+     * and none in {@code none}, in ascending id order.
+     */
+    public int[] search(Collection<String> all, Collection<String> any, Collection<String> none) {
+        lock.readLock().lock();
+        try {
+            // Posting lists are read in place; only the rarest one and the results are copied
+            int[] result = null;
+            if (all != null) {
+                // Start from the rarest skill so intersections shrink as fast as possible
+                List<IntPostings> lists = new ArrayList<>();
+                for (String skill : normalize(all)) {
+                    lists.add(postingsOf(skill));
+                }
+                lists.sort(Comparator.comparingInt(IntPostings::size));
+                for (IntPostings list : lists) {
+                    result = result == null ? list.toArray() : IntPostings.intersect(result, list);
+                    if (result.length == 0) {
+                        return result;
+                    }
+                }
+            }
+            if (any != null && !any.isEmpty()) {
+                int[] union = new int[0];
+                for (String skill : normalize(any)) {
+                    union = IntPostings.union(union, postingsOf(skill));
+                }
+                result = result == null ? union : IntPostings.intersect(result, union);
+            }
+            if (result == null) {
+                result = current.allResumes.toArray();
+            }
+            if (none != null) {
+                for (String skill : normalize(none)) {
+                    result = IntPostings.difference(result, postingsOf(skill));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resumes having at least {@code minMatches} of the given skills, most matches first.
+     */
+    public List<CandidateMatch> matchAtLeast(Collection<String> skills, int minMatches, int limit) {
+        TopK<CandidateMatch> top = TopK.create(limit, BEST_MATCH_FIRST);
+        lock.readLock().lock();
+        try {
+            List<IntPostings> lists = new ArrayList<>();
+            for (String skill : normalize(skills)) {
+                lists.add(postingsOf(skill));
+            }
+
+            // k-way merge: each step takes the smallest id under the cursors and counts how many lists hold it
+            int[] cursors = new int[lists.size()];
+            while (true) {
+                int min = Integer.MAX_VALUE;
+                for (int i = 0; i < cursors.length; i++) {
+                    IntPostings list = lists.get(i);
+                    if (cursors[i] < list.size() && list.get(cursors[i]) < min) {
+                        min = list.get(cursors[i]);
+                    }
+                }
+                if (min == Integer.MAX_VALUE) {
+                    break;
+                }
+                int count = 0;
+                for (int i = 0; i < cursors.length; i++) {
+                    IntPostings list = lists.get(i);
+                    if (cursors[i] < list.size() && list.get(cursors[i]) == min) {
+                        count++;
+                        cursors[i]++;
+                    }
+                }
+                if (count >= minMatches) {
+                    top.offer(new CandidateMatch((long) min, count));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top.toSortedList();
+    }
+
+    /**
+     * Ascending ids of the resumes that list the skill.
+     */
+    public int[] resumesWithSkill(String skill) {
+        if (skill == null || skill.isBlank()) {
+            return new int[0];
+        }
+        lock.readLock().lock();
+        try {
+            return postingsOf(skill.trim().toLowerCase()).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.allResumes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Pages through the projections so the whole table is never loaded at once
+    private SkillPostings load() {
+        SkillPostings fresh = new SkillPostings();
+        long afterId = 0;
+        List<ResumeSkillsView> page;
+        do {
+            page = resumeRepository.findSkillsByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_PAGE));
+            for (ResumeSkillsView resume : page) {
+                fresh.add(toDocId(resume.getId()), parseSkills(resume.getSkills()));
+                afterId = resume.getId();
+            }
+        } while (page.size() == REBUILD_PAGE);
+        return fresh;
+    }
+
+    private IntPostings postingsOf(String skill) {
+        IntPostings list = current.postings.get(skill);
+        return list == null ? NO_RESUMES : list;
+    }
+
+    private String[] parseSkills(String skillsJson) {
+        try {
+            if (skillsJson == null || skillsJson.isBlank()) {
+                return NO_SKILLS;
+            }
+            List<String> skills = objectMapper.readValue(skillsJson, new TypeReference<List<String>>() {});
+            return normalize(skills).toArray(NO_SKILLS);
+        } catch (Exception e) {
+            return NO_SKILLS;
+        }
+    }
+
+    private static Set<String> normalize(Collection<String> skills) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                normalized.add(skill.trim().toLowerCase());
+            }
+        }
+        return normalized;
+    }
+
+    private static int toDocId(Long resumeId) {
+        return Math.toIntExact(resumeId);
+    }
+
+    /**
+     * Posting lists of one index generation. Not thread-safe: the live one is guarded by the
+     * index lock, and one being rebuilt is private to the rebuilding thread.
+     */
+    private static final class SkillPostings {
+
+        private final Map<String, IntPostings> postings = new HashMap<>();
+        private final Map<Integer, String[]> skillsByResume = new HashMap<>();
+        private final IntPostings allResumes = new IntPostings();
+
+        // Resumes without skills still count towards allResumes, which NOT-only queries start from
+        void add(int docId, String[] skills) {
+            for (String skill : skills) {
+                postings.computeIfAbsent(skill, s -> new IntPostings()).add(docId);
+            }
+            skillsByResume.put(docId, skills);
+            allResumes.add(docId);
+        }
+
+        void remove(int docId) {
+            String[] skills = skillsByResume.remove(docId);
+            if (skills == null) {
+                return;
+            }
+            for (String skill : skills) {
+                IntPostings list = postings.get(skill);
+                if (list != null && list.remove(docId) && list.isEmpty()) {
+                    postings.remove(skill);
+                }
+            }
+            allResumes.remove(docId);
+        }
+    }
+}
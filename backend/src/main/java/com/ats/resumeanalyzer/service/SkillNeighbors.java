@@ -0,0 +1,30 @@
+package com.ats.resumeanalyzer.service;
+
+/**
+ * Skills close to one required skill: ascending skill ids with their cosine similarities.
+ */
+public record SkillNeighbors(int[] ids, float[] similarities) {
+
+    public static final SkillNeighbors NONE = new SkillNeighbors(new int[0], new float[0]);
+
+    /**
+     * Highest similarity among the neighbours present in the sorted {@code skillIds}, or 0.
+     */
+    public float bestIn(int[] skillIds) {
+        float best = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < skillIds.length) {
+            if (ids[i] < skillIds[j]) {
+                i++;
+            } else if (ids[i] > skillIds[j]) {
+                j++;
+            } else {
+                best = Math.max(best, similarities[i]);
+                i++;
+                j++;
+            }
+        }
+        return best;
+    }
+}
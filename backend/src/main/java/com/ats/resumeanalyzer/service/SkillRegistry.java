@@ -0,0 +1,178 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.model.Skill;
+import com.ats.resumeanalyzer.repository.SkillRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Global skill-name dictionary. Every distinct normalized skill gets a stable int id backed
+ * by the skills table, so resumes and jobs can carry sorted id arrays instead of JSON strings.
+ */
+@Service
+public class SkillRegistry {
+
+    private static final int[] NO_SKILLS = new int[0];
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> displayNames = new ConcurrentHashMap<>();
+    private final ReentrantLock insertLock = new ReentrantLock();
+
+    @PostConstruct
+    public void load() {
+        for (Skill skill : skillRepository.findAll()) {
+            register(skill);
+        }
+    }
+
+    /**
+     * Sorted, distinct ids of the given skills, creating ids for names not seen before.
+     */
+    public int[] intern(Collection<String> names) {
+        return toIds(names, true);
+    }
+
+    public int[] intern(String skillsJson) {
+        return intern(parseSkills(skillsJson));
+    }
+
+    /**
+     * Like {@link #intern(Collection)} but skips unknown names instead of registering them.
+     * Enough for scoring, since a skill no job has ever asked for cannot match.
+     */
+    public int[] lookup(Collection<String> names) {
+        return toIds(names, false);
+    }
+
+    public int[] lookup(String skillsJson) {
+        return lookup(parseSkills(skillsJson));
+    }
+
+    /**
+     * Skills stored under a name the dictionary now lists as a synonym, mapped to the id of
+     * their canonical skill. Rows interned before the synonym was added still carry these.
+     */
+    public Map<Integer, Integer> synonymIds() {
+        Map<Integer, Integer> canonicalIds = new HashMap<>();
+        idsByName.forEach((name, id) -> {
+            String canonical = skillDictionary.canonicalName(name);
+            if (!normalize(canonical).equals(name)) {
+                canonicalIds.put(id, intern(List.of(canonical))[0]);
+            }
+        });
+        return canonicalIds;
+    }
+
+    /**
+     * Drops skills no stored row refers to any more, so the next start has nothing to remap.
+     */
+    public void forget(Collection<Integer> skillIds) {
+        for (int id : skillIds) {
+            skillRepository.deleteById((long) id);
+            idsByName.values().remove(id);
+            displayNames.remove(id);
+        }
+    }
+
+    public List<String> names(int[] skillIds) {
+        List<String> names = new ArrayList<>(skillIds.length);
+        for (int id : skillIds) {
+            names.add(displayNames.get(id));
+        }
+        return names;
+    }
+
+    private int[] toIds(Collection<String> names, boolean create) {
+        if (names.isEmpty()) {
+            return NO_SKILLS;
+        }
+        int[] ids = new int[names.size()];
+        int n = 0;
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            // Synonyms share the canonical skill's id, so "Postgres" matches "PostgreSQL"
+            String canonical = skillDictionary.canonicalName(name);
+            Integer id = idsByName.get(normalize(canonical));
+            if (id == null && create) {
+                id = insert(canonical.trim());
+            }
+            if (id != null) {
+                ids[n++] = id;
+            }
+        }
+        Arrays.sort(ids, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    private int insert(String displayName) {
+        String name = normalize(displayName);
+        insertLock.lock();
+        try {
+            Integer existing = idsByName.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            Skill skill;
+            try {
+                skill = skillRepository.findByName(name)
+                        .orElseGet(() -> skillRepository.save(new Skill(null, name, displayName)));
+            } catch (DataIntegrityViolationException e) {
+                // Inserted concurrently by another instance
+                skill = skillRepository.findByName(name).orElseThrow(() -> e);
+            }
+            return register(skill);
+        } finally {
+            insertLock.unlock();
+        }
+    }
+
+    private int register(Skill skill) {
+        int id = Math.toIntExact(skill.getId());
+        displayNames.put(id, skill.getDisplayName());
+        idsByName.put(skill.getName(), id);
+        return id;
+    }
+
+    private List<String> parseSkills(String skillsJson) {
+        try {
+            if (skillsJson == null || skillsJson.isBlank()) {
+                return List.of();
+            }
+            return objectMapper.readValue(skillsJson, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ats.resumeanalyzer.service;
+
+/**
+ * One resume's skills scored against a job profile by {@link AnalysisService#scoreSkills}:
+ * the required skills it has, those still missing after partial credit, and the rounded
+ * match percentage.
+ */
+public record SkillScore(int[] matched, int[] missing, double matchPercentage) {
+}
@@ -0,0 +1,132 @@
+package com.ats.resumeanalyzer.service;
+
+import com.ats.resumeanalyzer.util.EmbeddingMatrix;
+import com.ats.resumeanalyzer.util.IntPostings;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fuzzy skill matching from precomputed embeddings shipped as two local files: a vocabulary
+ * (one skill per line) and a float32 matrix with one row per vocabulary line. Nothing is
+ * called over the network. Without the files configured, only exact and synonym matches count.
+ */
+@Service
+public class SkillSimilarity {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillSimilarity.class);
+
+    @Autowired
+    private SkillRegistry skillRegistry;
+
+    @Value("${skills.embeddings.vocabulary:}")
+    private String vocabularyFile;
+
+    @Value("${skills.embeddings.matrix:}")
+    private String matrixFile;
+
+    @Value("${skills.similarity-threshold:0.8}")
+    private float threshold;
+
+    private EmbeddingMatrix matrix;
+    private final Map<String, Integer> rowsByName = new HashMap<>();
+    private String[] namesByRow = new String[0];
+    private final Map<Integer, SkillNeighbors> neighborsBySkill = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() throws IOException {
+        if (vocabularyFile.isBlank() || matrixFile.isBlank()) {
+            log.info("No skill embeddings configured; fuzzy skill matching is off");
+            return;
+        }
+        List<String> vocabulary = Files.readAllLines(Paths.get(vocabularyFile), StandardCharsets.UTF_8);
+        namesByRow = vocabulary.stream().map(String::trim).toArray(String[]::new);
+        for (int row = 0; row < namesByRow.length; row++) {
+            rowsByName.putIfAbsent(namesByRow[row].toLowerCase(), row);
+        }
+        matrix = EmbeddingMatrix.map(Paths.get(matrixFile), namesByRow.length);
+        log.info("Mapped {} skill embeddings of {} dimensions", matrix.rows(), matrix.dimensions());
+    }
+
+    public boolean isEnabled() {
+        return matrix != null;
+    }
+
+    /**
+     * Known skills at least {@code skills.similarity-threshold} similar to the given one.
+     * Computed once per skill; skills registered later are picked up after a restart.
+     */
+    public SkillNeighbors neighbors(int skillId) {
+        if (!isEnabled()) {
+            return SkillNeighbors.NONE;
+        }
+        return neighborsBySkill.computeIfAbsent(skillId, this::computeNeighbors);
+    }
+
+    /**
+     * Partial credit for required skills the resume lacks but has a close neighbour of:
+     * each counts with the best neighbour's similarity instead of 1.
+     */
+    public Credit credit(int[] requiredIds, int[] matched, int[] resumeSkillIds) {
+        if (!isEnabled() || matched.length == requiredIds.length) {
+            return Credit.NONE;
+        }
+        int[] unmatched = IntPostings.difference(requiredIds, matched);
+        int[] covered = new int[unmatched.length];
+        int n = 0;
+        double credit = 0;
+        for (int skillId : unmatched) {
+            float best = neighbors(skillId).bestIn(resumeSkillIds);
+            if (best > 0) {
+                covered[n++] = skillId;
+                credit += best;
+            }
+        }
+        return n == 0 ? Credit.NONE : new Credit(Arrays.copyOf(covered, n), credit);
+    }
+
+    private SkillNeighbors computeNeighbors(int skillId) {
+        String name = skillRegistry.names(new int[] {skillId}).get(0);
+        Integer row = name == null ? null : rowsByName.get(name.toLowerCase());
+        if (row == null) {
+            return SkillNeighbors.NONE;
+        }
+
+        List<EmbeddingMatrix.Similar> similar = matrix.similarTo(row, threshold);
+        Map<Integer, Float> byId = new HashMap<>();
+        for (EmbeddingMatrix.Similar s : similar) {
+            int[] ids = skillRegistry.lookup(List.of(namesByRow[s.row()]));
+            if (ids.length == 1 && ids[0] != skillId) {
+                byId.merge(ids[0], s.similarity(), Math::max);
+            }
+        }
+
+        int[] ids = byId.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] similarities = new float[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            similarities[i] = byId.get(ids[i]);
+        }
+        return ids.length == 0 ? SkillNeighbors.NONE : new SkillNeighbors(ids, similarities);
+    }
+
+    /**
+     * Required skill ids satisfied by a neighbour, ascending, and the summed similarity they earn.
+     */
+    public record Credit(int[] covered, double credit) {
+
+        public static final Credit NONE = new Credit(new int[0], 0);
+    }
+}
@@ -2,16 +2,15 @@ package com.ats.resumeanalyzer.service;
 
 import com.ats.resumeanalyzer.model.User;
 import com.ats.resumeanalyzer.repository.UserRepository;
+import com.ats.resumeanalyzer.security.UserPrincipal;
+import com.ats.resumeanalyzer.util.BoundedCache;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -19,19 +18,29 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
     
+    private final BoundedCache<String, UserPrincipal> users;
+    
+    public UserDetailsServiceImpl(@Value("${users.cache.max-entries:10000}") int maxEntries,
+                                  @Value("${users.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.users = new BoundedCache<>(maxEntries, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+    
     @Override
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+    public UserPrincipal loadUserByUsername(String email) throws UsernameNotFoundException {
+        UserPrincipal principal = users.get(email);
+        if (principal != null) {
+            return principal;
+        }
+        
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
         
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                getAuthorities(user)
-        );
+        principal = new UserPrincipal(user);
+        users.put(email, principal);
+        return principal;
     }
     
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    public void evict(String email) {
+        users.invalidate(email);
     }
 }
@@ -0,0 +1,102 @@
+package com.ats.resumeanalyzer.util;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only matrix of float32 embedding rows, memory-mapped from a file of little-endian
+ * floats laid out row after row. The vectors stay off-heap; only one norm per row is
+ * kept on the heap.
+ *
+ * Dot products are unrolled over four accumulators, which lets the JIT keep independent
+ * multiply-adds in flight. (The Vector API is still incubating on the Java 17 runtime.)
+ */
+public final class EmbeddingMatrix {
+
+    private final FloatBuffer data;
+    private final int rows;
+    private final int dimensions;
+    private final float[] norms;
+
+    private EmbeddingMatrix(FloatBuffer data, int rows, int dimensions) {
+        this.data = data;
+        this.rows = rows;
+        this.dimensions = dimensions;
+        this.norms = new float[rows];
+        for (int row = 0; row < rows; row++) {
+            norms[row] = (float) Math.sqrt(dot(row, row));
+        }
+    }
+
+    /**
+     * Maps a matrix file with the given number of rows; the dimension follows from the file size.
+     */
+    public static EmbeddingMatrix map(Path file, int rows) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (rows == 0 || size % ((long) rows * Float.BYTES) != 0) {
+                throw new IOException("Matrix size " + size + " is not a multiple of " + rows + " float rows");
+            }
+            int dimensions = (int) (size / rows / Float.BYTES);
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new EmbeddingMatrix(buffer.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer(), rows, dimensions);
+        }
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public float dot(int a, int b) {
+        int pa = a * dimensions;
+        int pb = b * dimensions;
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < dimensions; i += 4) {
+            s0 += data.get(pa + i) * data.get(pb + i);
+            s1 += data.get(pa + i + 1) * data.get(pb + i + 1);
+            s2 += data.get(pa + i + 2) * data.get(pb + i + 2);
+            s3 += data.get(pa + i + 3) * data.get(pb + i + 3);
+        }
+        for (; i < dimensions; i++) {
+            s0 += data.get(pa + i) * data.get(pb + i);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    public float cosine(int a, int b) {
+        float norm = norms[a] * norms[b];
+        return norm == 0 ? 0 : dot(a, b) / norm;
+    }
+
+    /**
+     * Rows other than {@code row} whose cosine similarity to it is at least {@code threshold}.
+     */
+    public List<Similar> similarTo(int row, float threshold) {
+        List<Similar> similar = new ArrayList<>();
+        for (int other = 0; other < rows; other++) {
+            if (other != row) {
+                float similarity = cosine(row, other);
+                if (similarity >= threshold) {
+                    similar.add(new Similar(other, similarity));
+                }
+            }
+        }
+        return similar;
+    }
+
+    public record Similar(int row, float similarity) {
+    }
+}
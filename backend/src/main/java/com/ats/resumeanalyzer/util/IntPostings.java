@@ -0,0 +1,192 @@
+package com.ats.resumeanalyzer.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable sorted set of non-negative ints, used as a posting list. Ids are expected to
+ * arrive mostly in increasing order, which makes {@link #add(int)} an append.
+ *
+ * The static helpers combine sorted arrays and return exactly-sized results. Overloads
+ * taking a list read its backing array in place, so the caller must hold its lock.
+ */
+public final class IntPostings {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] ids = EMPTY;
+    private int size;
+
+    public boolean add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return false;
+            }
+            int insertAt = -pos - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+            return true;
+        }
+        ensureCapacity(size + 1);
+        ids[size++] = id;
+        return true;
+    }
+
+    public boolean remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        if (size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, Math.max(size * 2, 4));
+        }
+        return true;
+    }
+
+    public void clear() {
+        ids = EMPTY;
+        size = 0;
+    }
+
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Exactly-sized copy of the ids, safe to use after the lock guarding this list is released.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(capacity, Math.max(4, ids.length + (ids.length >> 1))));
+        }
+    }
+
+    public static int[] intersect(int[] a, int[] b) {
+        return intersect(a, a.length, b, b.length);
+    }
+
+    public static int[] intersect(int[] a, IntPostings b) {
+        return intersect(a, a.length, b.ids, b.size);
+    }
+
+    public static int[] union(int[] a, int[] b) {
+        return union(a, a.length, b, b.length);
+    }
+
+    public static int[] union(int[] a, IntPostings b) {
+        return union(a, a.length, b.ids, b.size);
+    }
+
+    public static int[] difference(int[] a, int[] b) {
+        return difference(a, a.length, b, b.length);
+    }
+
+    public static int[] difference(int[] a, IntPostings b) {
+        return difference(a, a.length, b.ids, b.size);
+    }
+
+    private static int[] intersect(int[] a, int aLength, int[] b, int bLength) {
+        if (aLength > bLength) {
+            int[] t = a;
+            a = b;
+            b = t;
+            int tLength = aLength;
+            aLength = bLength;
+            bLength = tLength;
+        }
+        int[] out = new int[aLength];
+        int n = 0;
+        int j = 0;
+        // Gallop through the longer list when the lengths are far apart
+        boolean gallop = bLength > aLength * 16;
+        for (int i = 0; i < aLength && j < bLength; i++) {
+            int value = a[i];
+            if (gallop) {
+                j = gallop(b, j, bLength, value);
+            } else {
+                while (j < bLength && b[j] < value) {
+                    j++;
+                }
+            }
+            if (j < bLength && b[j] == value) {
+                out[n++] = value;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int[] union(int[] a, int aLength, int[] b, int bLength) {
+        int[] out = new int[aLength + bLength];
+        int i = 0, j = 0, n = 0;
+        while (i < aLength && j < bLength) {
+            if (a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < aLength) {
+            out[n++] = a[i++];
+        }
+        while (j < bLength) {
+            out[n++] = b[j++];
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int[] difference(int[] a, int aLength, int[] b, int bLength) {
+        int[] out = new int[aLength];
+        int j = 0, n = 0;
+        for (int i = 0; i < aLength; i++) {
+            int value = a[i];
+            while (j < bLength && b[j] < value) {
+                j++;
+            }
+            if (j >= bLength || b[j] != value) {
+                out[n++] = value;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * First index in [{@code from}, {@code length}) whose value is >= {@code value}, or {@code length}.
+     */
+    private static int gallop(int[] array, int from, int length, int value) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < length && array[high] < value) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, length);
+        int pos = Arrays.binarySearch(array, low, high, value);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+}
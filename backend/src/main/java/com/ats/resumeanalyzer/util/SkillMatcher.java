@@ -0,0 +1,343 @@
+package com.ats.resumeanalyzer.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over case-folded characters.
+ *
+ * Every term maps to a canonical skill name, so synonyms ("K8s" -> "Kubernetes") resolve
+ * to the same skill. A term only matches on word boundaries: if its first (last) character
+ * is a letter or digit, the character before (after) the match must not be one, which keeps
+ * "Go" out of "Google" and "Java" out of "JavaScript" while still allowing "C++" or ".NET".
+ */
+public final class SkillMatcher {
+
+    private final String[] skills;
+    private final int maxTermLength;
+
+    // Transitions of state s are edgeChars/edgeTargets[edgeStart[s] .. edgeStart[s + 1]), sorted by char.
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+
+    // Matches reported in state s are output*[outputStart[s] .. outputStart[s + 1]).
+    private final int[] outputStart;
+    private final int[] outputSkill;
+    private final int[] outputLength;
+    private final boolean[] outputLeftBoundary;
+    private final boolean[] outputRightBoundary;
+
+    private SkillMatcher(String[] skills, int maxTermLength,
+                         int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail,
+                         int[] outputStart, int[] outputSkill, int[] outputLength,
+                         boolean[] outputLeftBoundary, boolean[] outputRightBoundary) {
+        this.skills = skills;
+        this.maxTermLength = maxTermLength;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputStart = outputStart;
+        this.outputSkill = outputSkill;
+        this.outputLength = outputLength;
+        this.outputLeftBoundary = outputLeftBoundary;
+        this.outputRightBoundary = outputRightBoundary;
+    }
+
+    public static SkillMatcher compile(Collection<String> skills) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String skill : skills) {
+            terms.put(skill, skill);
+        }
+        return compile(terms);
+    }
+
+    /**
+     * Compiles a term -> canonical skill mapping. Skill ids follow the iteration order of the
+     * map, which is also the order in which {@link #skillNames(BitSet)} reports them.
+     */
+    public static SkillMatcher compile(Map<String, String> termToSkill) {
+        Map<String, Integer> skillIds = new LinkedHashMap<>();
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<List<int[]>> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(new ArrayList<>());
+        int maxTermLength = 0;
+
+        for (Map.Entry<String, String> entry : termToSkill.entrySet()) {
+            String term = normalizeTerm(entry.getKey());
+            String skill = entry.getValue() == null ? null : entry.getValue().trim();
+            if (term.isEmpty() || skill == null || skill.isEmpty()) {
+                continue;
+            }
+            int skillId = skillIds.computeIfAbsent(skill, s -> skillIds.size());
+
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    outputs.add(new ArrayList<>());
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(new int[] {
+                    skillId,
+                    term.length(),
+                    isWordChar(term.charAt(0)) ? 1 : 0,
+                    isWordChar(term.charAt(term.length() - 1)) ? 1 : 0
+            });
+            maxTermLength = Math.max(maxTermLength, term.length());
+        }
+
+        int stateCount = children.size();
+        int[] edgeStart = new int[stateCount + 1];
+        int edgeCount = 0;
+        for (int s = 0; s < stateCount; s++) {
+            edgeStart[s] = edgeCount;
+            edgeCount += children.get(s).size();
+        }
+        edgeStart[stateCount] = edgeCount;
+
+        char[] edgeChars = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        for (int s = 0; s < stateCount; s++) {
+            int e = edgeStart[s];
+            for (Map.Entry<Character, Integer> child : children.get(s).entrySet()) {
+                edgeChars[e] = child.getKey();
+                edgeTargets[e] = child.getValue();
+                e++;
+            }
+        }
+
+        // Breadth-first failure links; a state inherits the outputs of its failure state,
+        // which is always shallower and therefore already complete.
+        int[] fail = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            queue.add(edgeTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                char c = edgeChars[e];
+                int child = edgeTargets[e];
+                int f = fail[state];
+                int target = transition(edgeStart, edgeChars, edgeTargets, f, c);
+                while (target < 0 && f != 0) {
+                    f = fail[f];
+                    target = transition(edgeStart, edgeChars, edgeTargets, f, c);
+                }
+                fail[child] = target < 0 ? 0 : target;
+                outputs.get(child).addAll(outputs.get(fail[child]));
+                queue.add(child);
+            }
+        }
+
+        int[] outputStart = new int[stateCount + 1];
+        int outputCount = 0;
+        for (int s = 0; s < stateCount; s++) {
+            outputStart[s] = outputCount;
+            outputCount += outputs.get(s).size();
+        }
+        outputStart[stateCount] = outputCount;
+
+        int[] outputSkill = new int[outputCount];
+        int[] outputLength = new int[outputCount];
+        boolean[] outputLeftBoundary = new boolean[outputCount];
+        boolean[] outputRightBoundary = new boolean[outputCount];
+        for (int s = 0; s < stateCount; s++) {
+            int o = outputStart[s];
+            for (int[] output : outputs.get(s)) {
+                outputSkill[o] = output[0];
+                outputLength[o] = output[1];
+                outputLeftBoundary[o] = output[2] == 1;
+                outputRightBoundary[o] = output[3] == 1;
+                o++;
+            }
+        }
+
+        return new SkillMatcher(skillIds.keySet().toArray(new String[0]), maxTermLength,
+                edgeStart, edgeChars, edgeTargets, fail,
+                outputStart, outputSkill, outputLength, outputLeftBoundary, outputRightBoundary);
+    }
+
+    /**
+     * Returns the canonical skills found in the text, in dictionary order.
+     */
+    public List<String> findSkills(CharSequence text) {
+        Scan scan = newScan();
+        scan.feed(text);
+        return skillNames(scan.finish());
+    }
+
+    /**
+     * Starts an incremental scan, for callers that receive the text in pieces.
+     */
+    public Scan newScan() {
+        return new Scan();
+    }
+
+    public List<String> skillNames(BitSet skillIds) {
+        if (skillIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>(skillIds.cardinality());
+        for (int id = skillIds.nextSetBit(0); id >= 0; id = skillIds.nextSetBit(id + 1)) {
+            names.add(skills[id]);
+        }
+        return names;
+    }
+
+    public int skillCount() {
+        return skills.length;
+    }
+
+    public List<String> skills() {
+        return Collections.unmodifiableList(Arrays.asList(skills));
+    }
+
+    /**
+     * Single pass over the input. Matches whose last character is a word character are held
+     * back until the next character (or the end of input) confirms the right boundary.
+     */
+    public final class Scan {
+        private final boolean[] wordChars = new boolean[maxTermLength + 1];
+        private final BitSet found = new BitSet(skills.length);
+        private int[] pending = new int[8];
+        private int pendingCount;
+        private int state;
+        private long position;
+
+        private Scan() {
+        }
+
+        public void feed(CharSequence text) {
+            for (int i = 0, n = text.length(); i < n; i++) {
+                feed(text.charAt(i));
+            }
+        }
+
+        public void feed(char[] buffer, int offset, int length) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                feed(buffer[i]);
+            }
+        }
+
+        public void feed(char c) {
+            boolean word = isWordChar(c);
+            if (pendingCount > 0) {
+                if (!word) {
+                    for (int i = 0; i < pendingCount; i++) {
+                        found.set(pending[i]);
+                    }
+                }
+                pendingCount = 0;
+            }
+
+            char folded = fold(c);
+            int s = state;
+            int next = transition(edgeStart, edgeChars, edgeTargets, s, folded);
+            while (next < 0 && s != 0) {
+                s = fail[s];
+                next = transition(edgeStart, edgeChars, edgeTargets, s, folded);
+            }
+            state = next < 0 ? 0 : next;
+            wordChars[(int) (position % wordChars.length)] = word;
+
+            for (int o = outputStart[state], end = outputStart[state + 1]; o < end; o++) {
+                int skill = outputSkill[o];
+                if (found.get(skill)) {
+                    continue;
+                }
+                long before = position - outputLength[o];
+                if (outputLeftBoundary[o] && before >= 0 && wordChars[(int) (before % wordChars.length)]) {
+                    continue;
+                }
+                if (outputRightBoundary[o]) {
+                    if (pendingCount == pending.length) {
+                        pending = Arrays.copyOf(pending, pendingCount * 2);
+                    }
+                    pending[pendingCount++] = skill;
+                } else {
+                    found.set(skill);
+                }
+            }
+            position++;
+        }
+
+        /**
+         * Ends the input and returns the ids of every skill found.
+         */
+        public BitSet finish() {
+            for (int i = 0; i < pendingCount; i++) {
+                found.set(pending[i]);
+            }
+            pendingCount = 0;
+            return found;
+        }
+    }
+
+    private static int transition(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static String normalizeTerm(String term) {
+        if (term == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(term.length());
+        boolean lastWasSpace = true;
+        for (int i = 0; i < term.length(); i++) {
+            char c = fold(term.charAt(i));
+            if (c == ' ') {
+                if (!lastWasSpace) {
+                    normalized.append(c);
+                }
+                lastWasSpace = true;
+            } else {
+                normalized.append(c);
+                lastWasSpace = false;
+            }
+        }
+        int length = normalized.length();
+        if (length > 0 && normalized.charAt(length - 1) == ' ') {
+            normalized.setLength(length - 1);
+        }
+        return normalized.toString();
+    }
+
+    private static char fold(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ats.resumeanalyzer.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Passes text through to another writer and feeds the same characters to a skill scan, so
+ * skills are found while the text is being extracted instead of in a second pass over it.
+ */
+public class SkillScanningWriter extends Writer {
+
+    private final Writer out;
+    private final SkillMatcher.Scan scan;
+
+    public SkillScanningWriter(Writer out, SkillMatcher.Scan scan) {
+        this.out = out;
+        this.scan = scan;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        out.write(chars, offset, length);
+        scan.feed(chars, offset, length);
+    }
+
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        out.write(text, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            scan.feed(text.charAt(i));
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        out.write(c);
+        scan.feed((char) c);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
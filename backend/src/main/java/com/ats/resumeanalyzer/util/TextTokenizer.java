@@ -0,0 +1,49 @@
+package com.ats.resumeanalyzer.util;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits free text into lower-case terms for relevance scoring. A term is a run of letters
+ * and digits, keeping inner {@code + # .} so "c++", "c#" and "node.js" survive; common
+ * English stop words and single characters are dropped. No stemming.
+ */
+public final class TextTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in",
+            "is", "it", "its", "of", "on", "or", "our", "that", "the", "their", "this", "to",
+            "was", "we", "were", "will", "with", "you", "your");
+
+    private TextTokenizer() {
+    }
+
+    public static void tokenize(CharSequence text, Consumer<String> terms) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder term = new StringBuilder(32);
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(c));
+            } else if (term.length() > 0 && (c == '+' || c == '#' || (c == '.' && i + 1 < n
+                    && Character.isLetterOrDigit(text.charAt(i + 1))))) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                emit(term, terms);
+                term.setLength(0);
+            }
+        }
+    }
+
+    private static void emit(CharSequence term, Consumer<String> terms) {
+        if (term.length() < 2) {
+            return;
+        }
+        String value = term.toString();
+        if (!STOP_WORDS.contains(value)) {
+            terms.accept(value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ats.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the k best elements seen so far in a min-heap of size k. Partial heaps from a
+ * parallel stream are merged pairwise, so nothing beyond k elements per thread is retained.
+ */
+public final class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    private TopK(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        // Head of the heap is the worst element currently kept
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), order.reversed());
+    }
+
+    public static <T> TopK<T> create(int k, Comparator<? super T> order) {
+        return new TopK<>(k, order);
+    }
+
+    /**
+     * Collects the k first elements according to {@code order}, sorted best first.
+     */
+    public static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> order) {
+        return Collector.of(
+                () -> new TopK<T>(k, order),
+                TopK::offer,
+                TopK::merge,
+                TopK::toSortedList);
+    }
+
+    public void offer(T element) {
+        if (k <= 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    private TopK<T> merge(TopK<T> other) {
+        for (T element : other.heap) {
+            offer(element);
+        }
+        return this;
+    }
+
+    public List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        return sorted;
+    }
+}
@@ -4,6 +4,8 @@ import axios from 'axios';
 const AdminPanel = () => {
   const [jobs, setJobs] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [showForm, setShowForm] = useState(false);
   const [editingJob, setEditingJob] = useState(null);
   const [formData, setFormData] = useState({
@@ -20,17 +22,25 @@ const AdminPanel = () => {
     fetchJobs();
   }, []);
 
-  const fetchJobs = async () => {
+  // The feed is paged; X-Next-Cursor points at the next page until the last one
+  const fetchJobs = async (cursor = null) => {
     try {
-      const response = await axios.get('/api/jobs');
-      setJobs(response.data);
+      const response = await axios.get('/api/jobs', { params: cursor ? { cursor } : {} });
+      setJobs((previous) => (cursor ? [...previous, ...response.data] : response.data));
+      setNextCursor(response.headers['x-next-cursor'] || null);
     } catch (error) {
       console.error('Error fetching jobs:', error);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
+  const loadMore = () => {
+    setLoadingMore(true);
+    fetchJobs(nextCursor);
+  };
+
   const handleChange = (e) => {
     setFormData({
       ...formData,
@@ -216,7 +226,7 @@ const AdminPanel = () => {
       )}
 
       <div className="card">
-        <h2>All Jobs ({jobs.length})</h2>
+        <h2>All Jobs ({jobs.length}{nextCursor ? '+' : ''})</h2>
         {jobs.length === 0 ? (
           <p>No jobs available. Create your first job posting above.</p>
         ) : (
@@ -252,6 +262,14 @@ const AdminPanel = () => {
             ))}
           </div>
         )}
+
+        {nextCursor && (
+          <div style={{ textAlign: 'center', marginTop: '24px' }}>
+            <button onClick={loadMore} className="btn btn-secondary" disabled={loadingMore}>
+              {loadingMore ? 'Loading...' : 'Load More Jobs'}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   );
@@ -5,6 +5,8 @@ import axios from 'axios';
 const JobList = () => {
   const [jobs, setJobs] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [searchParams] = useSearchParams();
   const resumeId = searchParams.get('resumeId');
   const navigate = useNavigate();
@@ -13,17 +15,25 @@ const JobList = () => {
     fetchJobs();
   }, []);
 
-  const fetchJobs = async () => {
+  // The feed is paged; X-Next-Cursor points at the next page until the last one
+  const fetchJobs = async (cursor = null) => {
     try {
-      const response = await axios.get('/api/jobs');
-      setJobs(response.data);
+      const response = await axios.get('/api/jobs', { params: cursor ? { cursor } : {} });
+      setJobs((previous) => (cursor ? [...previous, ...response.data] : response.data));
+      setNextCursor(response.headers['x-next-cursor'] || null);
     } catch (error) {
       console.error('Error fetching jobs:', error);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
+  const loadMore = () => {
+    setLoadingMore(true);
+    fetchJobs(nextCursor);
+  };
+
   const handleAnalyze = (jobId) => {
     if (resumeId) {
       navigate(`/analysis/${resumeId}/${jobId}`);
@@ -129,6 +139,14 @@ const JobList = () => {
           ))}
         </div>
       )}
+
+      {nextCursor && (
+        <div style={{ textAlign: 'center', marginTop: '24px' }}>
+          <button onClick={loadMore} className="btn btn-secondary" disabled={loadingMore}>
+            {loadingMore ? 'Loading...' : 'Load More Jobs'}
+          </button>
+        </div>
+      )}
     </div>
   );
 };
@@ -13,12 +13,13 @@ const ResumeUpload = () => {
     const selectedFile = e.target.files[0];
     if (selectedFile) {
       const allowedTypes = ['application/pdf', 'application/msword',
-        'application/vnd.openxmlformats-officedocument.wordprocessingml.document'];
+        'application/vnd.openxmlformats-officedocument.wordprocessingml.document',
+        'application/vnd.oasis.opendocument.text', 'application/rtf', 'text/rtf', 'text/plain'];
       if (allowedTypes.includes(selectedFile.type)) {
         setFile(selectedFile);
         setError('');
       } else {
-        setError('Please upload a PDF, DOC, or DOCX file');
+        setError('Please upload a PDF, DOC, DOCX, ODT, RTF or TXT file');
         setFile(null);
       }
     }
@@ -90,7 +91,7 @@ const ResumeUpload = () => {
               <input
                 id="resumeInput"
                 type="file"
-                accept=".pdf,.doc,.docx"
+                accept=".pdf,.doc,.docx,.odt,.rtf,.txt"
                 onChange={handleFileChange}
                 style={{ display: 'none' }}
                 required
@@ -113,7 +114,7 @@ const ResumeUpload = () => {
                 {file ? file.name : 'Click to select resume'}
               </h3>
               <p style={{ fontSize: '0.875rem', margin: 0 }}>
-                {file ? 'File selected ready for upload' : 'Support PDF, DOC, DOCX up to 10MB'}
+                {file ? 'File selected ready for upload' : 'Support PDF, DOC, DOCX, ODT, RTF, TXT up to 10MB'}
               </p>
             </div>
           </div>